@@ -6,20 +6,34 @@ import io.github.henryssondaniel.teacup.core.reporting.Reporter;
 import io.github.henryssondaniel.teacup.core.testing.Factory;
 import io.github.henryssondaniel.teacup.core.testing.Node;
 import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class DefaultReporterTest {
-
+  private static final int CONCURRENT_NODES = 10_000;
+  private static final String LOG = ".log";
   private static final String MESSAGE = "message";
+  private static final int NODES = 200;
   private static final String REASON = "reason";
+  private static final int RECORDS = 50;
 
   private final Node node = Factory.createNode("name", Collections.emptyList());
   private final Reporter reporter = new DefaultReporter();
@@ -105,6 +119,29 @@ class DefaultReporterTest {
     assertThat(getMap()).containsOnlyKeys(node);
   }
 
+  @Test
+  void initializedWhenTree(@TempDir Path tempDir) {
+    var nodes =
+        IntStream.range(0, NODES)
+            .mapToObj(
+                index ->
+                    Factory.createNode(
+                        "parent" + index,
+                        Collections.singletonList(
+                            Factory.createNode("child" + index, Collections.emptyList()))))
+            .collect(Collectors.toList());
+    var root = tempDir.resolve("tree");
+
+    Reporter treeReporter = new DefaultReporter(root);
+    treeReporter.initialize();
+    treeReporter.initialized(nodes);
+
+    for (var index = 0; index < NODES; index++) {
+      assertThat(root.resolve("parent" + index).resolve(LOG)).exists();
+      assertThat(root.resolve("parent" + index).resolve("child" + index).resolve(LOG)).exists();
+    }
+  }
+
   @Test
   void initializedWhenNotInitialize() throws IllegalAccessException, NoSuchFieldException {
     reporter.initialized(Collections.singletonList(node));
@@ -134,6 +171,98 @@ class DefaultReporterTest {
     assertThat(getMap()).isEmpty();
   }
 
+  @Test
+  void parallel(@TempDir Path tempDir) throws InterruptedException, IOException {
+    var nodes =
+        IntStream.range(0, NODES)
+            .mapToObj(index -> Factory.createNode("node" + index, Collections.emptyList()))
+            .collect(Collectors.toList());
+    var root = tempDir.resolve("parallel");
+
+    Reporter parallelReporter = new DefaultReporter(root);
+    parallelReporter.initialize();
+    parallelReporter.initialized(nodes);
+
+    var executorService = Executors.newFixedThreadPool(16);
+    for (var parallelNode : nodes)
+      executorService.execute(
+          () -> {
+            parallelReporter.started(parallelNode);
+
+            for (var index = 0; index < RECORDS; index++)
+              parallelReporter.log(
+                  new LogRecord(Level.INFO, MESSAGE + parallelNode.getName()), parallelNode);
+
+            parallelReporter.finished(parallelNode, Factory.createResult(Status.SUCCESSFUL, null));
+          });
+
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(1L, TimeUnit.MINUTES)).isTrue();
+
+    parallelReporter.terminated();
+
+    for (var parallelNode : nodes)
+      assertThat(Files.readAllLines(root.resolve(parallelNode.getName()).resolve(LOG)))
+          .filteredOn(line -> line.contains(" INFO: "))
+          .hasSize(RECORDS + 2)
+          .filteredOn(line -> line.contains(" INFO: " + MESSAGE))
+          .allMatch(line -> line.endsWith(" INFO: " + MESSAGE + parallelNode.getName()));
+
+    assertThat(Files.readAllLines(root.resolve(LOG)))
+        .last()
+        .asString()
+        .endsWith(" INFO: " + NODES + " tests executed, 0 aborted, 0 skipper, 0 failed");
+  }
+
+  @Test
+  void parallelWhenWriterIsBlocked(@TempDir Path tempDir) throws InterruptedException, IOException {
+    var nodes =
+        IntStream.range(0, CONCURRENT_NODES)
+            .mapToObj(index -> Factory.createNode("node" + index, Collections.emptyList()))
+            .collect(Collectors.toList());
+    var root = tempDir.resolve("blocked");
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.ASYNC, "true");
+    properties.setProperty(Configuration.ASYNC_CAPACITY, String.valueOf(CONCURRENT_NODES * 16));
+    properties.setProperty(Configuration.ASYNC_THREADS, "4");
+    properties.setProperty(Configuration.LAZY, "true");
+
+    Reporter parallelReporter = new DefaultReporter(new Configuration(properties), root);
+    parallelReporter.initialize();
+    parallelReporter.initialized(nodes);
+
+    var blocker = new CountDownLatch(1);
+    parallelReporter.log(new BlockingLogRecord(blocker), Factory.createNode(REASON, List.of()));
+
+    var executorService = Executors.newFixedThreadPool(256);
+    for (var parallelNode : nodes)
+      executorService.execute(
+          () -> {
+            parallelReporter.started(parallelNode);
+            parallelReporter.log(
+                new LogRecord(Level.INFO, MESSAGE + parallelNode.getName()), parallelNode);
+            parallelReporter.finished(parallelNode, Factory.createResult(Status.SUCCESSFUL, null));
+          });
+
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(1L, TimeUnit.MINUTES)).isTrue();
+    assertThat(blocker.getCount()).isOne();
+
+    blocker.countDown();
+    parallelReporter.terminated();
+
+    for (var parallelNode : nodes)
+      assertThat(Files.readString(root.resolve(parallelNode.getName()).resolve(LOG)))
+          .contains(" INFO: " + MESSAGE + parallelNode.getName());
+
+    assertThat(Files.readAllLines(root.resolve(LOG)))
+        .anySatisfy(line -> assertThat(line).endsWith(" INFO: " + MESSAGE))
+        .last()
+        .asString()
+        .endsWith(" INFO: " + CONCURRENT_NODES + " tests executed, 0 aborted, 0 skipper, 0 failed");
+  }
+
   @Test
   void skipped() throws IllegalAccessException, NoSuchFieldException {
     reporter.initialize();
@@ -194,11 +323,32 @@ class DefaultReporterTest {
     assertThat(getMap()).isEmpty();
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<Node, Integer> getMap() throws IllegalAccessException, NoSuchFieldException {
-    var field = DefaultReporter.class.getDeclaredField("map");
+  private Map<Node, Path> getMap() throws IllegalAccessException, NoSuchFieldException {
+    var field = DefaultReporter.class.getDeclaredField("nodeRegistry");
     field.setAccessible(true);
 
-    return (Map<Node, Integer>) field.get(reporter);
+    return ((NodeRegistry) field.get(reporter)).getPaths();
+  }
+
+  private static final class BlockingLogRecord extends LogRecord {
+    private static final long serialVersionUID = 1L;
+
+    private final transient CountDownLatch countDownLatch;
+
+    private BlockingLogRecord(CountDownLatch countDownLatch) {
+      super(Level.INFO, MESSAGE);
+      this.countDownLatch = countDownLatch;
+    }
+
+    @Override
+    public String getMessage() {
+      try {
+        countDownLatch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      return super.getMessage();
+    }
   }
 }
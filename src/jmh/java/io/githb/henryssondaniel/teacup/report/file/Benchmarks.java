@@ -0,0 +1,38 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Factory;
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+final class Benchmarks {
+  private Benchmarks() {}
+
+  static List<Node> createDeepTree(int depth) {
+    var node = Factory.createNode("node" + depth, Collections.emptyList());
+    for (var index = depth - 1; index >= 0; index--)
+      node = Factory.createNode("node" + index, Collections.singletonList(node));
+
+    return Collections.singletonList(node);
+  }
+
+  static List<Node> createWideTree(int width) {
+    List<Node> nodes = new ArrayList<>(width);
+    for (var index = 0; index < width; index++)
+      nodes.add(Factory.createNode("node" + index, Collections.emptyList()));
+
+    return nodes;
+  }
+
+  static void delete(Path path) throws IOException {
+    try (var paths = Files.walk(path)) {
+      for (var child : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+        Files.delete(child);
+    }
+  }
+}
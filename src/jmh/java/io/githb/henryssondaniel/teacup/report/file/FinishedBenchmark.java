@@ -0,0 +1,59 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Factory;
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import io.github.henryssondaniel.teacup.core.testing.Result;
+import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@Measurement(batchSize = FinishedBenchmark.SIZE, iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(batchSize = FinishedBenchmark.SIZE, iterations = 5)
+public class FinishedBenchmark {
+  static final int SIZE = 1000;
+
+  private final List<Node> nodes = Benchmarks.createWideTree(SIZE);
+  private final Result result = Factory.createResult(Status.SUCCESSFUL, null);
+
+  private int index;
+  private DefaultReporter reporter;
+  private Path root;
+
+  @Benchmark
+  public void finished() {
+    reporter.finished(nodes.get(index++), result);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    index = 0;
+    root = Files.createTempDirectory("finished");
+
+    reporter = new DefaultReporter(root.resolve("reporter"));
+    reporter.initialize();
+    reporter.initialized(nodes);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    reporter.terminated();
+    Benchmarks.delete(root);
+  }
+}
@@ -0,0 +1,26 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.nio.ByteBuffer;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+  private final Formatter formatter = new SimpleFormatter();
+  private final LogRecord logRecord = new LogRecord(Level.INFO, "message");
+
+  @Benchmark
+  public ByteBuffer recordFormatter() {
+    return RecordFormatter.encode(logRecord);
+  }
+
+  @Benchmark
+  public String simpleFormatter() {
+    return formatter.format(logRecord);
+  }
+}
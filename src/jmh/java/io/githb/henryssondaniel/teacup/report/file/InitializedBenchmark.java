@@ -0,0 +1,62 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class InitializedBenchmark {
+  private static final int DEPTH = 100;
+
+  @Param("1000")
+  private int size;
+
+  @Param({"deep", "wide"})
+  private String tree;
+
+  private List<Node> nodes;
+  private DefaultReporter reporter;
+  private Path root;
+
+  @Benchmark
+  public void initialized() {
+    reporter.initialized(nodes);
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() throws IOException {
+    root = Files.createTempDirectory("initialized");
+
+    reporter = new DefaultReporter(root.resolve("reporter"));
+    reporter.initialize();
+  }
+
+  @Setup
+  public void setUpTrial() {
+    nodes =
+        "deep".equals(tree)
+            ? Benchmarks.createDeepTree(Math.min(size, DEPTH))
+            : Benchmarks.createWideTree(size);
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDownInvocation() throws IOException {
+    reporter.terminated();
+    Benchmarks.delete(root);
+  }
+}
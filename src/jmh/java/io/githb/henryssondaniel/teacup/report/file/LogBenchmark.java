@@ -0,0 +1,50 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class LogBenchmark {
+  private final LogRecord logRecord = new LogRecord(Level.INFO, "message");
+
+  private int index;
+  private List<Node> nodes;
+
+  @Param({"1", "100", "1000"})
+  private int nodeCount;
+
+  private DefaultReporter reporter;
+  private Path root;
+
+  @Benchmark
+  public void log() {
+    reporter.log(logRecord, nodes.get(index++ % nodeCount));
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    nodes = Benchmarks.createWideTree(nodeCount);
+    root = Files.createTempDirectory("log");
+
+    reporter = new DefaultReporter(root.resolve("reporter"));
+    reporter.initialize();
+    reporter.initialized(nodes);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reporter.terminated();
+    Benchmarks.delete(root);
+  }
+}
@@ -0,0 +1,41 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class StartedBenchmark {
+  private int index;
+  private List<Node> nodes;
+  private DefaultReporter reporter;
+  private Path root;
+
+  @Benchmark
+  public void started() {
+    reporter.started(nodes.get(index++ % nodes.size()));
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    nodes = Benchmarks.createWideTree(100);
+    root = Files.createTempDirectory("started");
+
+    reporter = new DefaultReporter(root.resolve("reporter"));
+    reporter.initialize();
+    reporter.initialized(nodes);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reporter.terminated();
+    Benchmarks.delete(root);
+  }
+}
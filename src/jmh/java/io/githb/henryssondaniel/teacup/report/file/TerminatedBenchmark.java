@@ -0,0 +1,62 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Factory;
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TerminatedBenchmark {
+  private List<Node> nodes;
+  private DefaultReporter reporter;
+  private Path root;
+
+  @Param("1000")
+  private int size;
+
+  @Benchmark
+  public void terminated() {
+    reporter.terminated();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() throws IOException {
+    root = Files.createTempDirectory("terminated");
+
+    reporter = new DefaultReporter(root.resolve("reporter"));
+    reporter.initialize();
+    reporter.initialized(nodes);
+
+    var result = Factory.createResult(Status.SUCCESSFUL, null);
+    for (var node : nodes) {
+      reporter.started(node);
+      reporter.finished(node, result);
+    }
+  }
+
+  @Setup
+  public void setUpTrial() {
+    nodes = Benchmarks.createWideTree(size);
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDownInvocation() throws IOException {
+    Benchmarks.delete(root);
+  }
+}
@@ -0,0 +1,66 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+  private static final Logger LOGGER = Logger.getLogger(WriteBenchmark.class.getName());
+
+  private final LogRecord logRecord = new LogRecord(Level.INFO, "message");
+
+  private Handler handler;
+  private Path handlerPath;
+  private LogFile logFile;
+  private Path logFilePath;
+
+  @Benchmark
+  public void logFile() {
+    logFile.write(logRecord);
+  }
+
+  @Benchmark
+  public void logger() {
+    LOGGER.addHandler(handler);
+    LOGGER.setUseParentHandlers(false);
+    LOGGER.log(logRecord);
+    LOGGER.removeHandler(handler);
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    handlerPath = Files.createTempFile("handler", ".log");
+    logFilePath = Files.createTempFile("logFile", ".log");
+
+    handler =
+        new StreamHandler(Files.newOutputStream(handlerPath), new SimpleFormatter()) {
+          @Override
+          public synchronized void publish(LogRecord publishRecord) {
+            super.publish(publishRecord);
+            flush();
+          }
+        };
+    logFile = new LogFile(logFilePath);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    handler.close();
+    logFile.close();
+
+    Files.delete(handlerPath);
+    Files.delete(logFilePath);
+  }
+}
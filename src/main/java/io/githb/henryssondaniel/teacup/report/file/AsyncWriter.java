@@ -0,0 +1,198 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+class AsyncWriter {
+  private static final Logger LOGGER = Logger.getLogger(AsyncWriter.class.getName());
+  private static final Entry STOP = new Entry(null, null, null);
+
+  private final Backpressure backpressure;
+  private final int batchSize;
+  private final LongAdder dropped = new LongAdder();
+  private final LogFileCache logFileCache;
+  private final List<BlockingQueue<Entry>> queues;
+  private final List<Thread> threads;
+
+  AsyncWriter(Backpressure backpressure, int batchSize, int capacity, LogFileCache logFileCache) {
+    this(backpressure, batchSize, capacity, 1, logFileCache);
+  }
+
+  AsyncWriter(
+      Backpressure backpressure,
+      int batchSize,
+      int capacity,
+      int threads,
+      LogFileCache logFileCache) {
+    this.backpressure = backpressure;
+    this.batchSize = batchSize;
+    this.logFileCache = logFileCache;
+    queues = new ArrayList<>(threads);
+    this.threads = new ArrayList<>(threads);
+
+    for (var index = 0; index < threads; index++) {
+      BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(Math.max(1, capacity / threads));
+      var thread =
+          new Thread(
+              () -> run(queue),
+              threads == 1 ? "teacup-report-file-writer" : "teacup-report-file-writer-" + index);
+      thread.setDaemon(true);
+
+      queues.add(queue);
+      this.threads.add(thread);
+    }
+  }
+
+  void close() {
+    for (var queue : queues) put(queue, STOP);
+
+    try {
+      for (var thread : threads) thread.join();
+    } catch (InterruptedException e) {
+      LOGGER.log(Level.SEVERE, "Interrupted while waiting for the logs to be written.", e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  void close(Path path) {
+    put(getQueue(path), new Entry(path, null, null));
+  }
+
+  long getDropped() {
+    return dropped.sum();
+  }
+
+  void start() {
+    threads.forEach(Thread::start);
+  }
+
+  void write(Path path, ByteBuffer byteBuffer) {
+    write(new Entry(path, null, byteBuffer));
+  }
+
+  void write(Path path, LogRecord logRecord) {
+    write(new Entry(path, logRecord, null));
+  }
+
+  private Text createText(Path path) {
+    return new Text(logFileCache.get(path).orElse(null));
+  }
+
+  private void dropOldest(BlockingQueue<Entry> queue, Entry entry) {
+    var queued = false;
+
+    while (!queued) {
+      var oldest = queue.stream().filter(current -> !current.isClose()).findFirst();
+
+      if (oldest.isEmpty()) {
+        put(queue, entry);
+        queued = true;
+      } else {
+        if (queue.remove(oldest.get())) dropped.increment();
+        queued = queue.offer(entry);
+      }
+    }
+  }
+
+  private BlockingQueue<Entry> getQueue(Path path) {
+    return queues.get(Math.floorMod(path.hashCode(), queues.size()));
+  }
+
+  private void run(BlockingQueue<Entry> queue) {
+    Collection<Entry> batch = new ArrayList<>(batchSize);
+    var stop = false;
+
+    while (!stop)
+      try {
+        batch.add(queue.take());
+        queue.drainTo(batch, batchSize - 1);
+
+        stop = write(batch);
+        batch.clear();
+      } catch (InterruptedException e) {
+        LOGGER.log(Level.SEVERE, "Interrupted while writing logs. Queued logs are lost.", e);
+        Thread.currentThread().interrupt();
+        stop = true;
+      }
+  }
+
+  private void write(Entry entry) {
+    var queue = getQueue(entry.path);
+
+    if (backpressure == Backpressure.BLOCK) put(queue, entry);
+    else if (backpressure == Backpressure.DROP) {
+      if (!queue.offer(entry)) dropped.increment();
+    } else if (!queue.offer(entry)) dropOldest(queue, entry);
+  }
+
+  private boolean write(Iterable<Entry> batch) {
+    Map<Path, Text> texts = new LinkedHashMap<>(16);
+    var stop = false;
+
+    for (var entry : batch)
+      if (entry == STOP) stop = true;
+      else if (entry.isClose()) {
+        write(entry.path, texts.remove(entry.path));
+        logFileCache.close(entry.path);
+      } else if (entry.byteBuffer != null) {
+        write(entry.path, texts.remove(entry.path));
+        logFileCache.write(entry.path, entry.byteBuffer);
+      } else {
+        var text = texts.computeIfAbsent(entry.path, this::createText);
+        if (text.logFile != null) text.logFile.format(entry.logRecord, text.stringBuilder);
+      }
+
+    texts.forEach(this::write);
+
+    return stop;
+  }
+
+  private void write(Path path, Text text) {
+    if (text != null && text.logFile != null) logFileCache.write(path, text.stringBuilder);
+  }
+
+  private static void put(BlockingQueue<? super Entry> queue, Entry entry) {
+    try {
+      queue.put(entry);
+    } catch (InterruptedException e) {
+      LOGGER.log(Level.SEVERE, "Interrupted while queueing the log. The log is lost.", e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class Entry {
+    private final ByteBuffer byteBuffer;
+    private final LogRecord logRecord;
+    private final Path path;
+
+    private Entry(Path path, LogRecord logRecord, ByteBuffer byteBuffer) {
+      this.byteBuffer = byteBuffer;
+      this.logRecord = logRecord;
+      this.path = path;
+    }
+
+    private boolean isClose() {
+      return byteBuffer == null && logRecord == null;
+    }
+  }
+
+  private static final class Text {
+    private final LogFile logFile;
+    private final StringBuilder stringBuilder = new StringBuilder(256);
+
+    private Text(LogFile logFile) {
+      this.logFile = logFile;
+    }
+  }
+}
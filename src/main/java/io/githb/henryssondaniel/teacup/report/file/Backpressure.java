@@ -0,0 +1,7 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+enum Backpressure {
+  BLOCK,
+  DROP,
+  DROP_OLDEST
+}
@@ -0,0 +1,32 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses the log files. Each call to {@link #compress(OutputStream)} starts a new member, and
+ * the members are appended to the log file one after another, so the concatenation of complete
+ * members must be readable as one stream.
+ *
+ * @since 1.0
+ */
+public interface Codec {
+  /**
+   * Returns a stream that compresses everything written to it into the output stream. The member is
+   * completed when the returned stream is closed.
+   *
+   * @param outputStream the output stream
+   * @return the compressing stream
+   * @throws IOException if the stream could not be created
+   * @since 1.0
+   */
+  OutputStream compress(OutputStream outputStream) throws IOException;
+
+  /**
+   * Returns the extension that is added to the names of the log files, for example .gz.
+   *
+   * @return the extension
+   * @since 1.0
+   */
+  String getExtension();
+}
@@ -0,0 +1,19 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+enum Compression implements Codec {
+  GZIP {
+    @Override
+    public OutputStream compress(OutputStream outputStream) throws IOException {
+      return new GZIPOutputStream(outputStream, 8192);
+    }
+
+    @Override
+    public String getExtension() {
+      return ".gz";
+    }
+  }
+}
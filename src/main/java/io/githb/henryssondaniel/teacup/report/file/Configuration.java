@@ -0,0 +1,289 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+class Configuration {
+  static final String ASYNC = "teacup.report.file.async";
+  static final String ASYNC_BACKPRESSURE = "teacup.report.file.async.backpressure";
+  static final String ASYNC_BATCH = "teacup.report.file.async.batch";
+  static final String ASYNC_CAPACITY = "teacup.report.file.async.capacity";
+  static final String ASYNC_THREADS = "teacup.report.file.async.threads";
+  static final String COMPRESSION = "teacup.report.file.compression";
+  static final String DURABILITY = "teacup.report.file.durability";
+  static final String DURABILITY_INTERVAL = "teacup.report.file.durability.interval";
+  static final String FLIGHT_CAPACITY = "teacup.report.file.flight.capacity";
+  static final String FLIGHT_SKIPPED = "teacup.report.file.flight.skipped";
+  static final String FORMAT = "teacup.report.file.format";
+  static final String HANDLES = "teacup.report.file.handles";
+  static final String HISTORY = "teacup.report.file.history";
+  static final String HISTORY_FOLDER = "teacup.report.file.history.folder";
+  static final String LAZY = "teacup.report.file.lazy";
+  static final String LEVEL = "teacup.report.file.level";
+  static final String LIVE = "teacup.report.file.live";
+  static final String LIVE_CAPACITY = "teacup.report.file.live.capacity";
+  static final String LIVE_PORT = "teacup.report.file.live.port";
+  static final String MAPPED = "teacup.report.file.mapped";
+  static final String MAPPED_SEGMENT = "teacup.report.file.mapped.segment";
+  static final String PARALLELISM = "teacup.report.file.parallelism";
+  static final String RETENTION_AGE = "teacup.report.file.retention.age";
+  static final String RETENTION_RUNS = "teacup.report.file.retention.runs";
+  static final String RETENTION_SIZE = "teacup.report.file.retention.size";
+  static final String ROTATION_SIZE = "teacup.report.file.rotation.size";
+  static final String RUN = "teacup.report.file.run";
+  static final String SAMPLING_LIMIT = "teacup.report.file.sampling.limit";
+  static final String SUPPRESSED_CAPACITY = "teacup.report.file.suppressed.capacity";
+  static final String TRACES = "teacup.report.file.traces";
+
+  private static final Logger LOGGER = Logger.getLogger(Configuration.class.getName());
+  private static final String CODEC_ERROR =
+      "The property %s has the invalid value %s. The logs will not be compressed.";
+  private static final String ENUM_ERROR =
+      "The property %s has the invalid value %s. The default value %s will be used.";
+  private static final String LEVEL_ERROR =
+      "The property %s has the invalid value %s. It will be ignored.";
+  private static final String NUMBER_ERROR =
+      "The property %s has the invalid value %s. The default value %d will be used.";
+
+  private final Properties properties;
+
+  Configuration(Properties properties) {
+    this.properties = properties;
+  }
+
+  Backpressure getAsyncBackpressure() {
+    return getEnum(ASYNC_BACKPRESSURE, Backpressure.BLOCK);
+  }
+
+  int getAsyncBatch() {
+    return Math.max(1, getInt(ASYNC_BATCH, 512));
+  }
+
+  int getAsyncCapacity() {
+    return Math.max(1, getInt(ASYNC_CAPACITY, 8192));
+  }
+
+  int getAsyncThreads() {
+    return Math.max(1, getInt(ASYNC_THREADS, 1));
+  }
+
+  Optional<Codec> getCodec() {
+    var value = properties.getProperty(COMPRESSION, "none").trim();
+    Codec codec = null;
+
+    if (!"none".equalsIgnoreCase(value))
+      try {
+        codec = Compression.valueOf(value.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        codec = createCodec(value);
+      }
+
+    return Optional.ofNullable(codec);
+  }
+
+  Durability getDurability() {
+    return getEnum(DURABILITY, Durability.NONE);
+  }
+
+  long getDurabilityInterval() {
+    return Math.max(1, getInt(DURABILITY_INTERVAL, 1000));
+  }
+
+  int getFlightCapacity() {
+    return Math.max(0, getInt(FLIGHT_CAPACITY, 0));
+  }
+
+  Format getFormat() {
+    return getEnum(FORMAT, Format.TEXT);
+  }
+
+  int getHandles() {
+    return Math.max(1, getInt(HANDLES, 256));
+  }
+
+  Path getHistoryFolder() {
+    var value = properties.getProperty(HISTORY_FOLDER);
+
+    return value == null || value.isBlank()
+        ? Path.of(System.getProperty("user.home"), ".teacup", "history")
+        : Path.of(value.trim());
+  }
+
+  Level getLevel() {
+    var value = properties.getProperty(LEVEL);
+    var level = Level.ALL;
+
+    if (value != null)
+      try {
+        level = Level.parse(value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        LOGGER.log(Level.WARNING, String.format(ENUM_ERROR, LEVEL, value, level), e);
+      }
+
+    return level;
+  }
+
+  Map<Pattern, Level> getLevels() {
+    var prefix = LEVEL + '.';
+    Map<Pattern, Level> levels = new LinkedHashMap<>(0);
+
+    properties.stringPropertyNames().stream()
+        .filter(key -> key.startsWith(prefix))
+        .sorted()
+        .forEach(
+            key -> {
+              var value = properties.getProperty(key);
+
+              try {
+                levels.put(
+                    Pattern.compile(key.substring(prefix.length())),
+                    Level.parse(value.trim().toUpperCase(Locale.ROOT)));
+              } catch (IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, String.format(LEVEL_ERROR, key, value), e);
+              }
+            });
+
+    return levels;
+  }
+
+  int getLiveCapacity() {
+    return Math.max(1, getInt(LIVE_CAPACITY, 1024));
+  }
+
+  int getLivePort() {
+    return Math.min(65_535, Math.max(0, getInt(LIVE_PORT, 0)));
+  }
+
+  int getMappedSegment() {
+    return isMapped() ? Math.max(4096, getInt(MAPPED_SEGMENT, 1_048_576)) : 0;
+  }
+
+  int getParallelism() {
+    return Math.max(1, getInt(PARALLELISM, Runtime.getRuntime().availableProcessors()));
+  }
+
+  Duration getRetentionAge() {
+    return Duration.ofDays(Math.max(0, getInt(RETENTION_AGE, 0)));
+  }
+
+  int getRetentionRuns() {
+    return Math.max(0, getInt(RETENTION_RUNS, 0));
+  }
+
+  long getRetentionSize() {
+    return Math.max(0L, getLong(RETENTION_SIZE));
+  }
+
+  long getRotationSize() {
+    return Math.max(0L, getLong(ROTATION_SIZE));
+  }
+
+  Optional<String> getRun() {
+    return Optional.ofNullable(properties.getProperty(RUN))
+        .map(String::trim)
+        .filter(run -> !run.isEmpty());
+  }
+
+  int getSamplingLimit() {
+    return Math.max(0, getInt(SAMPLING_LIMIT, 0));
+  }
+
+  int getSuppressedCapacity() {
+    return Math.max(0, getInt(SUPPRESSED_CAPACITY, 0));
+  }
+
+  boolean isAsync() {
+    return getBoolean(ASYNC);
+  }
+
+  boolean isFlightSkipped() {
+    return getBoolean(FLIGHT_SKIPPED);
+  }
+
+  boolean isHistory() {
+    return getBoolean(HISTORY);
+  }
+
+  boolean isLazy() {
+    return getBoolean(LAZY) || getFlightCapacity() > 0;
+  }
+
+  boolean isLive() {
+    return getBoolean(LIVE);
+  }
+
+  boolean isMapped() {
+    return getBoolean(MAPPED);
+  }
+
+  boolean isTraces() {
+    return getBoolean(TRACES);
+  }
+
+  private boolean getBoolean(String key) {
+    return Boolean.parseBoolean(properties.getProperty(key, "false").trim());
+  }
+
+  private <T extends Enum<T>> T getEnum(String key, T defaultValue) {
+    var value = properties.getProperty(key);
+    var result = defaultValue;
+
+    if (value != null)
+      try {
+        result =
+            Enum.valueOf(defaultValue.getDeclaringClass(), value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        LOGGER.log(Level.WARNING, String.format(ENUM_ERROR, key, value, defaultValue), e);
+      }
+
+    return result;
+  }
+
+  private int getInt(String key, int defaultValue) {
+    var value = properties.getProperty(key);
+    var result = defaultValue;
+
+    if (value != null)
+      try {
+        result = Integer.parseInt(value.trim());
+      } catch (NumberFormatException e) {
+        LOGGER.log(Level.WARNING, String.format(NUMBER_ERROR, key, value, defaultValue), e);
+      }
+
+    return result;
+  }
+
+  private long getLong(String key) {
+    var value = properties.getProperty(key);
+    var result = 0L;
+
+    if (value != null)
+      try {
+        result = Long.parseLong(value.trim());
+      } catch (NumberFormatException e) {
+        LOGGER.log(Level.WARNING, String.format(NUMBER_ERROR, key, value, result), e);
+      }
+
+    return result;
+  }
+
+  private static Codec createCodec(String value) {
+    Codec codec = null;
+
+    try {
+      codec = Class.forName(value).asSubclass(Codec.class).getConstructor().newInstance();
+    } catch (ClassCastException | ReflectiveOperationException e) {
+      LOGGER.log(Level.WARNING, String.format(CODEC_ERROR, COMPRESSION, value), e);
+    }
+
+    return codec;
+  }
+}
@@ -5,20 +5,26 @@ import io.github.henryssondaniel.teacup.core.testing.Node;
 import io.github.henryssondaniel.teacup.core.testing.Result;
 import io.github.henryssondaniel.teacup.core.testing.Status;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.logging.FileHandler;
-import java.util.logging.Handler;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Reporter that saves the logs into a file hierarchy. Each node gets its own folder together with a
@@ -28,24 +34,39 @@ import java.util.logging.SimpleFormatter;
  */
 public class DefaultReporter implements Reporter {
   private static final String DIRECTORY_ERROR =
-      "The directory %s could not be created. All logs belonging to this directory will not be saved.";
+      "The directory %s could not be created. All logs belonging to this directory will not be"
+          + " saved.";
   private static final String DIRECTORY_EXISTS =
-      "The directory {0} does already exist. All logs belonging to this directory will not be saved.";
+      "The directory {0} does already exist. All logs belonging to this directory will not be"
+          + " saved.";
   private static final String FILE_ERROR =
       "The file %s could not be created. The logs will not be saved.";
-  private static final String LOG = ".log";
   private static final Logger LOGGER = Logger.getLogger(DefaultReporter.class.getName());
-  private static final String STARTED = "Started";
 
-  private final Map<Node, Path> map = new HashMap<>(0);
+  private final LongAdder aborted = new LongAdder();
+  private final boolean compressed;
+  private final Configuration configuration;
+  private final LongAdder failed = new LongAdder();
+  private final FlightRecorder flightRecorder;
+  private final FolderNames folderNames = new FolderNames();
+  private final LogFileCache logFileCache;
+  private final LogFilter logFilter;
+  private final Metrics metrics = new Metrics();
+  private final NodeRegistry nodeRegistry = new NodeRegistry();
+  private final String logName;
   private final Path realPath;
-
-  private int aborted;
-  private int failed;
-  private Path rootLog;
-  private Path rootPath;
-  private int skipped;
-  private int successful;
+  private final ResultIndexWriter resultIndexWriter = new ResultIndexWriter();
+  private final SharedRun sharedRun;
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder successful = new LongAdder();
+  private final Traces traces;
+
+  private volatile AsyncWriter asyncWriter;
+  private volatile LiveTail liveTail;
+  private volatile Path rootLog;
+  private volatile Path rootPath;
+  private Thread shutdownHook;
+  private ScheduledExecutorService syncExecutor;
 
   /**
    * Constructor.
@@ -53,43 +74,111 @@ public class DefaultReporter implements Reporter {
    * @since 1.0
    */
   public DefaultReporter() {
-    this(
-        Path.of(
-            System.getProperty("user.home"),
-            ".teacup",
-            "logs",
-            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS"))));
+    this(new Configuration(System.getProperties()));
+  }
+
+  private DefaultReporter(Configuration configuration) {
+    this(configuration, createPath(configuration));
   }
 
   DefaultReporter(Path realPath) {
+    this(new Configuration(System.getProperties()), realPath);
+  }
+
+  DefaultReporter(Configuration configuration, Path realPath) {
+    var codec = configuration.getCodec().orElse(null);
+    var format = configuration.getFormat();
+
+    this.configuration = configuration;
+    compressed = codec != null;
+    logName = codec == null ? format.getExtension() : format.getExtension() + codec.getExtension();
+    logFileCache =
+        new LogFileCache(
+            configuration.getHandles(),
+            configuration.isLazy(),
+            codec == null ? configuration.getMappedSegment() : 0,
+            codec,
+            configuration.getRotationSize(),
+            metrics,
+            configuration.getDurability(),
+            format,
+            realPath);
+    flightRecorder = new FlightRecorder(configuration.getFlightCapacity(), format, realPath);
+    logFilter =
+        new LogFilter(
+            configuration.getLevel(),
+            configuration.getLevels(),
+            configuration.getSamplingLimit(),
+            configuration.getSuppressedCapacity(),
+            node -> nodeRegistry.get(node) != null);
     this.realPath = realPath;
+    traces = configuration.isTraces() ? new Traces(realPath.resolve(Traces.FOLDER)) : null;
+    sharedRun =
+        configuration.getRun().isPresent()
+            ? new SharedRun(
+                realPath.toAbsolutePath().getParent(),
+                codec,
+                format,
+                logName,
+                configuration.isHistory() ? configuration.getHistoryFolder() : null)
+            : null;
   }
 
   @Override
   public void finished(Node node, Result result) {
     LOGGER.log(Level.FINE, "Finished");
 
+    var start = System.nanoTime();
+
     var status = result.getStatus();
 
-    if (status == Status.ABORTED) aborted++;
-    else if (status == Status.FAILED) failed++;
-    else successful++;
+    if (status == Status.ABORTED) aborted.increment();
+    else if (status == Status.FAILED) failed.increment();
+    else successful.increment();
 
-    var path = Optional.ofNullable(map.remove(node)).orElseGet(() -> rootLog);
-    if (path != null)
-      createHandler(path.toString())
-          .ifPresent(
-              handler ->
-                  log(
-                      handler,
-                      new LogRecord(
-                          Level.INFO,
-                          "Finished with status: "
-                              + status
-                              + " after "
-                              + (node.getTimeFinished() - node.getTimeStarted())
-                              + " ms."
-                              + result.getThrowable().map(Throwable::toString).orElse(""))));
+    var nodePath = nodeRegistry.remove(node);
+    var path = Optional.ofNullable(nodePath).orElseGet(() -> rootLog);
+    if (path != null) {
+      var failure = status == Status.ABORTED || status == Status.FAILED;
+      var logRecords = logFilter.end(node, failure);
+      var recording = flightRecorder.end(node);
+
+      var duration = node.getTimeFinished() - node.getTimeStarted();
+      var throwable = result.getThrowable().orElse(null);
+
+      var written = failure || !isRecorded(nodePath);
+      var event = written || isPublished() ? createFinished(status, duration, throwable) : null;
+
+      if (written) {
+        recording.ifPresent(byteBuffer -> write(nodePath, byteBuffer));
+        for (var logRecord : logRecords) log(path, () -> logRecord);
+
+        log(path, () -> event);
+      }
+
+      if (event != null) publish(nodePath, () -> event);
+
+      resultIndexWriter.add(
+          node.getName(),
+          String.valueOf(status),
+          duration,
+          throwable == null ? "" : throwable.getClass().getName(),
+          nodePath);
+    }
+
+    if (nodePath != null) close(nodePath);
+
+    metrics.finished(System.nanoTime() - start);
+  }
+
+  /**
+   * Returns the metrics about the cost of this reporter.
+   *
+   * @return the metrics
+   * @since 1.0
+   */
+  public MetricsMXBean getMetrics() {
+    return metrics;
   }
 
   @Override
@@ -98,7 +187,50 @@ public class DefaultReporter implements Reporter {
     else
       try {
         rootPath = Files.createDirectories(realPath);
-        rootLog = createRootLog(realPath.resolve(LOG));
+        rootLog = createRootLog(realPath.resolve(logName));
+        SharedRun.activate(realPath);
+
+        new Retention(
+                configuration.getRetentionAge(),
+                sharedRun == null ? realPath : sharedRun.getRoot(),
+                configuration.getRetentionRuns(),
+                configuration.getRetentionSize())
+            .start();
+
+        metrics.register(String.valueOf(realPath.getFileName()));
+
+        if (configuration.isAsync()) {
+          asyncWriter =
+              new AsyncWriter(
+                  configuration.getAsyncBackpressure(),
+                  configuration.getAsyncBatch(),
+                  configuration.getAsyncCapacity(),
+                  configuration.getAsyncThreads(),
+                  logFileCache);
+          asyncWriter.start();
+        }
+
+        if (configuration.isLive()) liveTail = createLiveTail(configuration);
+
+        if (configuration.getDurability() == Durability.PERIODIC) {
+          var interval = configuration.getDurabilityInterval();
+
+          syncExecutor =
+              Executors.newSingleThreadScheduledExecutor(
+                  runnable -> {
+                    var thread = new Thread(runnable, "teacup-report-file-sync");
+                    thread.setDaemon(true);
+
+                    return thread;
+                  });
+          syncExecutor.scheduleWithFixedDelay(
+              logFileCache::force, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        if (configuration.isMapped() || compressed) {
+          shutdownHook = new Thread(logFileCache::close, "teacup-report-file-shutdown");
+          Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
       } catch (IOException e) {
         LOGGER.log(Level.SEVERE, String.format(DIRECTORY_ERROR, realPath), e);
       }
@@ -108,117 +240,295 @@ public class DefaultReporter implements Reporter {
   public void initialized(Collection<? extends Node> nodes) {
     LOGGER.log(Level.FINE, "Initialized");
 
-    if (rootPath != null) createDirectories(map, nodes, rootPath);
+    var path = rootPath;
+    if (path != null) nodeRegistry.register(nodes);
+
+    if (path != null && configuration.isLazy())
+      addPaths(nodeRegistry, nodes, path, logName, folderNames);
+    else if (path != null) {
+      var forkJoinPool = new ForkJoinPool(configuration.getParallelism());
+
+      try {
+        forkJoinPool.invoke(new CreateDirectories(nodeRegistry, nodes, path, logName, folderNames));
+      } finally {
+        forkJoinPool.shutdown();
+      }
+    }
   }
 
   @Override
   public void log(LogRecord logRecord, Node node) {
     LOGGER.log(Level.FINE, "Log");
 
-    var path = Optional.ofNullable(map.get(node)).orElseGet(() -> rootLog);
-    if (path != null) createHandler(path.toString()).ifPresent(handler -> log(handler, logRecord));
+    var start = System.nanoTime();
+
+    var nodePath = nodeRegistry.get(node);
+    var path = Optional.ofNullable(nodePath).orElseGet(() -> rootLog);
+    if (path != null && logFilter.accept(node, logRecord)) {
+      var traced =
+          traces == null || logRecord.getThrown() == null
+              ? logRecord
+              : new TracedRecord(logRecord, traces);
+
+      if (isRecorded(nodePath)) flightRecorder.record(node, nodePath, traced);
+      else log(path, () -> traced);
+
+      publish(nodePath, () -> traced);
+
+      if (nodePath == null) metrics.addRecord();
+      else metrics.addRecord(nodePath);
+    }
+
+    metrics.log(System.nanoTime() - start);
   }
 
   @Override
   public void skipped(Node node, String reason) {
     LOGGER.log(Level.INFO, "Skipped");
 
-    var path = Optional.ofNullable(map.remove(node)).orElseGet(() -> rootLog);
+    var nodePath = nodeRegistry.remove(node);
+    var path = Optional.ofNullable(nodePath).orElseGet(() -> rootLog);
     if (path != null) {
-      skipped++;
+      skipped.increment();
 
-      createHandler(path.toString())
-          .ifPresent(
-              handler -> log(handler, new LogRecord(Level.INFO, "Skipped with reason: " + reason)));
+      var logRecords = logFilter.end(node, false);
+      var recording = flightRecorder.end(node);
+
+      var written = configuration.isFlightSkipped() || !isRecorded(nodePath);
+      var event =
+          written || isPublished()
+              ? new Event(Event.SKIPPED, Messages.skipped(reason), "SKIPPED", -1L, null)
+              : null;
+
+      if (written) {
+        recording.ifPresent(byteBuffer -> write(nodePath, byteBuffer));
+        for (var logRecord : logRecords) log(path, () -> logRecord);
+
+        log(path, () -> event);
+      }
+
+      if (event != null) publish(nodePath, () -> event);
+
+      resultIndexWriter.add(node.getName(), nodePath);
     }
+
+    if (nodePath != null) close(nodePath);
   }
 
   @Override
   public void started(Node node) {
-    LOGGER.log(Level.FINE, STARTED);
+    LOGGER.log(Level.FINE, Messages.STARTED);
+
+    var start = System.nanoTime();
 
-    var path = Optional.ofNullable(map.get(node)).orElseGet(() -> rootLog);
-    if (path != null)
-      createHandler(path.toString())
-          .ifPresent(handler -> log(handler, new LogRecord(Level.INFO, STARTED)));
+    var nodePath = nodeRegistry.get(node);
+    var path = Optional.ofNullable(nodePath).orElseGet(() -> rootLog);
+    if (isRecorded(nodePath))
+      flightRecorder.record(node, nodePath, new Event(Event.STARTED, Messages.STARTED));
+    else if (path != null) log(path, () -> new Event(Event.STARTED, Messages.STARTED));
+
+    if (path != null) publish(nodePath, () -> new Event(Event.STARTED, Messages.STARTED));
+
+    metrics.started(System.nanoTime() - start);
   }
 
   @Override
   public void terminated() {
     LOGGER.log(Level.FINE, "Terminated");
 
-    map.clear();
+    flightRecorder.clear();
+    folderNames.clear();
+    logFilter.clear();
+    nodeRegistry.clear();
+    if (traces != null) traces.clear();
+
+    var dropped = closeAsyncWriter();
+    shutdownSyncExecutor();
 
     if (rootLog != null)
-      createHandler(rootLog.toString())
+      logFileCache
+          .get(rootLog)
           .ifPresent(
-              handler ->
-                  log(
-                      handler,
-                      new LogRecord(
-                          Level.INFO,
-                          (aborted + failed + skipped + successful)
-                              + " tests executed, "
-                              + aborted
-                              + " aborted, "
-                              + skipped
-                              + " skipper, "
-                              + failed
-                              + " failed")));
-
-    aborted = 0;
-    failed = 0;
+              logFile -> {
+                if (dropped > 0L)
+                  logFile.write(new LogRecord(Level.WARNING, Messages.dropped(dropped)));
+
+                logFile.write(
+                    new Event(
+                        Event.TERMINATED,
+                        Messages.summary(
+                            aborted.sum(), failed.sum(), skipped.sum(), successful.sum())));
+              });
+
+    closeLiveTail();
+
+    logFileCache.close();
+    removeShutdownHook();
+
+    var path = rootPath;
+    if (path == null) resultIndexWriter.clear();
+    else {
+      var entries = resultIndexWriter.write(path.resolve(ResultIndex.FILE));
+      if (configuration.isHistory() && sharedRun == null)
+        HistoryWriter.append(configuration.getHistoryFolder(), System.currentTimeMillis(), entries);
+
+      metrics.write(path, dropped);
+      if (sharedRun == null) SharedRun.deactivate(path);
+      else sharedRun.leave(path);
+    }
+
+    metrics.unregister();
+    metrics.reset();
+
+    aborted.reset();
+    failed.reset();
     rootLog = null;
     rootPath = null;
-    skipped = 0;
-    successful = 0;
+    skipped.reset();
+    successful.reset();
   }
 
-  private static void createDirectories(
-      Map<? super Node, ? super Path> map, Iterable<? extends Node> nodes, Path rootPath) {
-    for (var node : nodes) {
-      var name = rootPath.resolve(node.getName());
+  private void close(Path path) {
+    var writer = asyncWriter;
+
+    if (writer == null) logFileCache.close(path);
+    else writer.close(path);
+  }
+
+  private boolean isRecorded(Path nodePath) {
+    return nodePath != null && flightRecorder.isEnabled();
+  }
+
+  private boolean isPublished() {
+    var tail = liveTail;
+
+    return rootPath != null && tail != null && tail.isSubscribed();
+  }
 
-      if (Files.exists(name)) LOGGER.log(Level.SEVERE, DIRECTORY_EXISTS, name);
-      else createDirectory(map, name, node, rootPath);
+  private long closeAsyncWriter() {
+    var dropped = 0L;
+
+    if (asyncWriter != null) {
+      asyncWriter.close();
+      dropped = asyncWriter.getDropped();
+      asyncWriter = null;
     }
+
+    return dropped;
   }
 
-  private static void createDirectory(
-      Map<? super Node, ? super Path> map, Path name, Node node, Path rootPath) {
-    try {
-      Files.createDirectories(name);
+  private void closeLiveTail() {
+    var tail = liveTail;
+
+    if (tail != null) {
+      tail.publish(
+          null,
+          new Event(
+              Event.TERMINATED,
+              Messages.summary(aborted.sum(), failed.sum(), skipped.sum(), successful.sum())));
+      tail.close();
+      liveTail = null;
+    }
+  }
 
-      createLog(name.resolve(LOG), map, node, rootPath);
-    } catch (IOException e) {
-      LOGGER.log(Level.SEVERE, String.format(DIRECTORY_ERROR, name), e);
+  private void log(Path path, Supplier<? extends LogRecord> supplier) {
+    var writer = asyncWriter;
+
+    if (writer == null) logFileCache.write(path, supplier);
+    else writer.write(path, supplier.get());
+  }
+
+  private void write(Path path, ByteBuffer byteBuffer) {
+    var writer = asyncWriter;
+
+    if (writer == null) logFileCache.write(path, byteBuffer);
+    else writer.write(path, byteBuffer);
+  }
+
+  private void publish(Path nodePath, Supplier<? extends LogRecord> supplier) {
+    var root = rootPath;
+    var tail = liveTail;
+
+    if (root != null && tail != null && tail.isSubscribed())
+      tail.publish(FolderNames.getNode(root, nodePath), supplier.get());
+  }
+
+  private void removeShutdownHook() {
+    if (shutdownHook != null) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      } catch (IllegalStateException e) {
+        LOGGER.log(Level.FINE, "The shutdown has already started.", e);
+      }
+
+      shutdownHook = null;
+    }
+  }
+
+  private void shutdownSyncExecutor() {
+    if (syncExecutor != null) {
+      syncExecutor.shutdown();
+
+      try {
+        if (!syncExecutor.awaitTermination(1L, TimeUnit.MINUTES))
+          LOGGER.log(Level.WARNING, "The sync thread did not finish in time.");
+      } catch (InterruptedException e) {
+        LOGGER.log(Level.SEVERE, "Interrupted while waiting for the sync thread.", e);
+        Thread.currentThread().interrupt();
+      }
+
+      syncExecutor = null;
     }
   }
 
-  private static Optional<Handler> createHandler(String path) {
-    Handler handler = null;
+  private static void addPaths(
+      NodeRegistry nodeRegistry,
+      Iterable<? extends Node> nodes,
+      Path parent,
+      String logName,
+      FolderNames folderNames) {
+    for (var node : nodes) {
+      var folder = parent.resolve(folderNames.get(node.getName()));
+
+      if (nodeRegistry.putIfAbsent(node, folder.resolve(logName)))
+        addPaths(nodeRegistry, node.getNodes(), folder, logName, new FolderNames());
+    }
+  }
+
+  private static LogRecord createFinished(Status status, long duration, Throwable throwable) {
+    var thrown = throwable == null ? null : throwable.toString();
+
+    return new Event(
+        Event.FINISHED,
+        Messages.finished(status, duration, thrown == null ? "" : thrown),
+        String.valueOf(status),
+        duration,
+        thrown);
+  }
+
+  private static LiveTail createLiveTail(Configuration configuration) {
+    var port = configuration.getLivePort();
+    LiveTail createdLiveTail = null;
 
     try {
-      handler = new FileHandler(path, true);
+      createdLiveTail = new LiveTail(port, configuration.getLiveCapacity());
+      createdLiveTail.start();
     } catch (IOException e) {
       LOGGER.log(
-          Level.SEVERE,
-          String.format("The file %s could not be written to. The logs will not be saved.", path),
-          e);
+          Level.SEVERE, String.format("The live logs could not be served on port %d.", port), e);
     }
 
-    return Optional.ofNullable(handler);
+    return createdLiveTail;
   }
 
-  private static void createLog(
-      Path filename, Map<? super Node, ? super Path> map, Node node, Path rootPath) {
-    try {
-      map.put(node, Files.createFile(filename));
+  private static Path createPath(Configuration configuration) {
+    var logs = Path.of(System.getProperty("user.home"), ".teacup", "logs");
+    var timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS"));
 
-      createDirectories(map, node.getNodes(), rootPath);
-    } catch (IOException e) {
-      LOGGER.log(Level.SEVERE, String.format(FILE_ERROR, filename), e);
-    }
+    return configuration
+        .getRun()
+        .map(run -> logs.resolve(run).resolve(timestamp + '-' + ProcessHandle.current().pid()))
+        .orElseGet(() -> logs.resolve(timestamp));
   }
 
   private static Path createRootLog(Path filename) {
@@ -233,14 +543,87 @@ public class DefaultReporter implements Reporter {
     return createdLog;
   }
 
-  private static void log(Handler handler, LogRecord logRecord) {
-    handler.setFormatter(new SimpleFormatter());
+  private static final class CreateDirectories extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient FolderNames folderNames;
+    private final String logName;
+    private final transient NodeRegistry nodeRegistry;
+    private final transient Collection<? extends Node> nodes;
+    private final transient Path parent;
+
+    private CreateDirectories(
+        NodeRegistry nodeRegistry,
+        Collection<? extends Node> nodes,
+        Path parent,
+        String logName,
+        FolderNames folderNames) {
+      this.folderNames = folderNames;
+      this.logName = logName;
+      this.nodeRegistry = nodeRegistry;
+      this.nodes = nodes;
+      this.parent = parent;
+    }
+
+    @Override
+    protected void compute() {
+      List<CreateDirectory> createDirectories = new ArrayList<>(nodes.size());
+
+      for (var node : nodes) {
+        var folder = parent.resolve(folderNames.get(node.getName()));
+        var log = folder.resolve(logName);
+
+        if (nodeRegistry.putIfAbsent(node, log))
+          createDirectories.add(new CreateDirectory(nodeRegistry, node, folder, log, logName));
+      }
+
+      invokeAll(createDirectories);
+    }
+  }
+
+  private static final class CreateDirectory extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Path folder;
+    private final transient Path log;
+    private final String logName;
+    private final transient NodeRegistry nodeRegistry;
+    private final transient Node node;
+
+    private CreateDirectory(
+        NodeRegistry nodeRegistry, Node node, Path folder, Path log, String logName) {
+      this.folder = folder;
+      this.log = log;
+      this.logName = logName;
+      this.nodeRegistry = nodeRegistry;
+      this.node = node;
+    }
+
+    @Override
+    protected void compute() {
+      try {
+        Files.createDirectory(folder);
+
+        createLog();
+      } catch (FileAlreadyExistsException e) {
+        nodeRegistry.remove(node);
+        LOGGER.log(Level.SEVERE, DIRECTORY_EXISTS, folder);
+      } catch (IOException e) {
+        nodeRegistry.remove(node);
+        LOGGER.log(Level.SEVERE, String.format(DIRECTORY_ERROR, folder), e);
+      }
+    }
 
-    LOGGER.addHandler(handler);
-    LOGGER.setUseParentHandlers(false);
-    LOGGER.log(logRecord);
+    private void createLog() {
+      try {
+        Files.createFile(log);
 
-    handler.close();
-    LOGGER.removeHandler(handler);
+        new CreateDirectories(nodeRegistry, node.getNodes(), folder, logName, new FolderNames())
+            .invoke();
+      } catch (IOException e) {
+        nodeRegistry.remove(node);
+        LOGGER.log(Level.SEVERE, String.format(FILE_ERROR, log), e);
+      }
+    }
   }
 }
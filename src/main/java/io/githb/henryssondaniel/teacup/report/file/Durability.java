@@ -0,0 +1,8 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+enum Durability {
+  FINISH,
+  NONE,
+  PERIODIC,
+  RECORD
+}
@@ -0,0 +1,47 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+class Event extends LogRecord {
+  static final String FINISHED = "finished";
+  static final String SKIPPED = "skipped";
+  static final String STARTED = "started";
+  static final String TERMINATED = "terminated";
+
+  private static final long serialVersionUID = 1L;
+
+  private final long duration;
+  private final String status;
+  private final String thrown;
+  private final String type;
+
+  Event(String type, String message) {
+    this(type, message, null, -1L, null);
+  }
+
+  Event(String type, String message, String status, long duration, String thrown) {
+    super(Level.INFO, message);
+
+    this.duration = duration;
+    this.status = status;
+    this.thrown = thrown;
+    this.type = type;
+  }
+
+  long getDuration() {
+    return duration;
+  }
+
+  String getStatus() {
+    return status;
+  }
+
+  String getThrowable() {
+    return thrown;
+  }
+
+  String getType() {
+    return type;
+  }
+}
@@ -0,0 +1,137 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+class FlightRecorder {
+  private final int capacity;
+  private final Format format;
+  private final Map<Node, Ring> rings = new ConcurrentHashMap<>(16);
+  private final Path root;
+
+  FlightRecorder(int capacity) {
+    this(capacity, Format.TEXT, null);
+  }
+
+  FlightRecorder(int capacity, Format format, Path root) {
+    this.capacity = capacity;
+    this.format = format;
+    this.root = root;
+  }
+
+  void clear() {
+    rings.clear();
+  }
+
+  Optional<ByteBuffer> end(Node node) {
+    return Optional.ofNullable(rings.remove(node)).map(Ring::drain);
+  }
+
+  boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  void record(Node node, Path log, LogRecord logRecord) {
+    var ring = rings.computeIfAbsent(node, key -> new Ring(format.getNode(root, log)));
+    ring.add(RecordFormatter.encode(logRecord, format, ring.node));
+  }
+
+  private final class Ring {
+    private final String node;
+
+    private byte[] bytes = new byte[Math.min(capacity, 1024)];
+    private int count;
+    private int dropped;
+    private int first;
+    private int[] lengths = new int[16];
+    private int size;
+    private int start;
+
+    private Ring(String node) {
+      this.node = node;
+    }
+
+    private synchronized void add(ByteBuffer byteBuffer) {
+      var length = byteBuffer.remaining();
+
+      if (length > capacity) dropped++;
+      else {
+        if (size + length > bytes.length && bytes.length < capacity)
+          grow(Math.min(capacity, Math.max(bytes.length * 2, size + length)));
+
+        while (size + length > bytes.length) evict();
+
+        var end = (start + size) % bytes.length;
+        var tail = Math.min(length, bytes.length - end);
+        byteBuffer.get(bytes, end, tail);
+        byteBuffer.get(bytes, 0, length - tail);
+        size += length;
+
+        if (count == lengths.length) {
+          lengths = linearize(lengths, first, count, count * 2);
+          first = 0;
+        }
+
+        lengths[(first + count++) % lengths.length] = length;
+      }
+    }
+
+    private synchronized ByteBuffer drain() {
+      ByteBuffer header;
+      if (dropped == 0) header = ByteBuffer.allocate(0);
+      else if (format == Format.JSON)
+        header =
+            RecordFormatter.encode(
+                new LogRecord(Level.INFO, Messages.recorded(dropped)), format, node);
+      else header = RecordFormatter.encode(Messages.recorded(dropped) + System.lineSeparator());
+
+      var byteBuffer = ByteBuffer.allocate(header.remaining() + size);
+
+      byteBuffer.put(header);
+      byteBuffer.put(linearize(bytes, start, size, size));
+
+      return byteBuffer.flip();
+    }
+
+    private void evict() {
+      var length = lengths[first];
+
+      count--;
+      dropped++;
+      first = (first + 1) % lengths.length;
+      size -= length;
+      start = (start + length) % bytes.length;
+    }
+
+    private void grow(int length) {
+      bytes = linearize(bytes, start, size, length);
+      start = 0;
+    }
+  }
+
+  private static byte[] linearize(byte[] source, int start, int size, int length) {
+    var target = new byte[length];
+    var tail = Math.min(size, source.length - start);
+
+    System.arraycopy(source, start, target, 0, tail);
+    System.arraycopy(source, 0, target, tail, size - tail);
+
+    return target;
+  }
+
+  private static int[] linearize(int[] source, int start, int size, int length) {
+    var target = new int[length];
+    var tail = Math.min(size, source.length - start);
+
+    System.arraycopy(source, start, target, 0, tail);
+    System.arraycopy(source, 0, target, tail, size - tail);
+
+    return target;
+  }
+}
@@ -0,0 +1,75 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+class FolderNames {
+  private static final int LENGTH = 64;
+  private static final Pattern RESERVED =
+      Pattern.compile("(?i)(aux|con|nul|prn|com\\d|lpt\\d)(\\..*)?");
+
+  private final Set<String> names = new HashSet<>(16);
+
+  synchronized void clear() {
+    names.clear();
+  }
+
+  synchronized String get(String name) {
+    var sanitized = sanitize(String.valueOf(name));
+    var folder = sanitized;
+
+    for (var suffix = 2; !names.add(folder.toLowerCase(Locale.ROOT)); suffix++)
+      folder = sanitized + '~' + suffix;
+
+    return folder;
+  }
+
+  static String getNode(Path root, Path log) {
+    var folder = log == null ? null : log.getParent();
+    String node = null;
+
+    if (folder != null && !folder.equals(root) && folder.startsWith(root)) {
+      var stringJoiner = new StringJoiner("/");
+      for (var name : root.relativize(folder)) stringJoiner.add(name.toString());
+
+      node = stringJoiner.toString();
+    }
+
+    return node;
+  }
+
+  private static boolean isInvalid(char character, int index, int last) {
+    return character < ' '
+        || "\"*/:<>?\\|".indexOf(character) >= 0
+        || index == 0 && character == '.'
+        || index == last && (character == ' ' || character == '.');
+  }
+
+  private static String sanitize(String name) {
+    var length = Math.min(name.length(), LENGTH);
+    if (length < name.length() && Character.isHighSurrogate(name.charAt(length - 1))) length--;
+
+    var last = length - 1;
+    StringBuilder stringBuilder = null;
+
+    for (var i = 0; i < length; i++) {
+      var character = name.charAt(i);
+
+      if (isInvalid(character, i, last)) {
+        if (stringBuilder == null) stringBuilder = new StringBuilder(name.substring(0, i));
+        stringBuilder.append('_');
+      } else if (stringBuilder != null) stringBuilder.append(character);
+    }
+
+    String folder;
+    if (stringBuilder != null) folder = stringBuilder.toString();
+    else if (length == name.length()) folder = name;
+    else folder = name.substring(0, length);
+
+    return folder.isEmpty() || RESERVED.matcher(folder).matches() ? '_' + folder : folder;
+  }
+}
@@ -0,0 +1,22 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.nio.file.Path;
+
+enum Format {
+  JSON(".jsonl"),
+  TEXT(".log");
+
+  private final String extension;
+
+  Format(String extension) {
+    this.extension = extension;
+  }
+
+  String getExtension() {
+    return extension;
+  }
+
+  String getNode(Path root, Path log) {
+    return this == JSON ? FolderNames.getNode(root, log) : null;
+  }
+}
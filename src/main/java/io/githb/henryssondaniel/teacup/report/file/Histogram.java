@@ -0,0 +1,69 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+class Histogram {
+  private static final int PRECISION = 4;
+  private static final int SUB_BUCKETS = 1 << PRECISION;
+
+  private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - PRECISION) * SUB_BUCKETS);
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  long getCount() {
+    var count = 0L;
+    for (var i = 0; i < counts.length(); i++) count += counts.get(i);
+
+    return count;
+  }
+
+  long getMax() {
+    return max.get();
+  }
+
+  long getPercentile(double percentile) {
+    var remaining = (long) Math.ceil(percentile / 100.0 * getCount());
+    var value = 0L;
+
+    for (var i = 0; i < counts.length() && remaining > 0L; i++) {
+      remaining -= counts.get(i);
+      if (remaining <= 0L) value = Math.min(getHighest(i), max.get());
+    }
+
+    return value;
+  }
+
+  void record(long value) {
+    var positive = Math.max(0L, value);
+
+    counts.incrementAndGet(getIndex(positive));
+    max.accumulate(positive);
+  }
+
+  void reset() {
+    for (var i = 0; i < counts.length(); i++) counts.set(i, 0L);
+    max.reset();
+  }
+
+  private static long getHighest(int index) {
+    long highest = index;
+
+    if (index >= SUB_BUCKETS) {
+      var shift = index / SUB_BUCKETS - 1;
+      highest = ((long) (SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift) - 1L;
+    }
+
+    return highest;
+  }
+
+  private static int getIndex(long value) {
+    var index = (int) value;
+
+    if (value >= SUB_BUCKETS) {
+      var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - PRECISION;
+      index = (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    return index;
+  }
+}
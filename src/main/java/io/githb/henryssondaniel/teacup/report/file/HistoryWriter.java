@@ -0,0 +1,202 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class HistoryWriter {
+  static final String DICTIONARY = "dictionary";
+  static final int DICTIONARY_END = 4;
+  static final String DURATION = "duration";
+  static final int DURATION_END = 3;
+  static final int HEADER = 2 * Integer.BYTES;
+  static final int MAGIC = 0x54434948;
+  static final String NODE = "node";
+  static final int NODE_END = 2;
+  static final int ROW_END = 1;
+  static final int RUN = 5 * Long.BYTES;
+  static final String RUNS = "runs";
+  static final String STATUS = "status";
+  static final List<String> STATUSES = List.of("SUCCESSFUL", "FAILED", "ABORTED", "SKIPPED");
+  static final int VERSION = 1;
+
+  private static final String LOCK = ".lock";
+  private static final int RUNS_END = 0;
+  private static final Logger LOGGER = Logger.getLogger(HistoryWriter.class.getName());
+
+  private HistoryWriter() {}
+
+  static void append(Path folder, long time, Iterable<ResultIndex.Entry> entries) {
+    try {
+      Files.createDirectories(folder);
+
+      try (var fileChannel =
+          FileChannel.open(
+              folder.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        var fileLock = fileChannel.lock();
+
+        try {
+          append(folder, time, entries, readEnds(folder));
+        } finally {
+          fileLock.release();
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "The history in %s could not be written. This run will be missing.", folder),
+          e);
+    }
+  }
+
+  static long getVarint(ByteBuffer byteBuffer) {
+    var value = 0L;
+    var shift = 0;
+    byte current;
+
+    do {
+      current = byteBuffer.get();
+      value |= (long) (current & 0x7F) << shift;
+      shift += 7;
+    } while (current < 0);
+
+    return value;
+  }
+
+  static Map<String, Integer> readDictionary(Path file, long end) throws IOException {
+    Map<String, Integer> dictionary = new HashMap<>(16);
+
+    if (end > 0L)
+      try (var fileChannel = FileChannel.open(file)) {
+        var bytes = new byte[Math.toIntExact(end)];
+        fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, end).get(bytes);
+
+        var dataInputStream = new DataInputStream(new ByteArrayInputStream(bytes));
+        while (dataInputStream.available() > 0)
+          dictionary.put(dataInputStream.readUTF(), dictionary.size());
+      }
+
+    return dictionary;
+  }
+
+  private static void append(
+      Path folder, long time, Iterable<ResultIndex.Entry> entries, long[] ends) throws IOException {
+    var dictionary = readDictionary(folder.resolve(DICTIONARY), ends[DICTIONARY_END]);
+
+    var added = new ByteArrayOutputStream(256);
+    var durations = new ByteArrayOutputStream(1024);
+    var nodes = new ByteArrayOutputStream(1024);
+    var statuses = new ByteArrayOutputStream(512);
+
+    var dataOutputStream = new DataOutputStream(added);
+    var rows = 0L;
+
+    for (var entry : entries) {
+      var id = dictionary.get(entry.getNode());
+
+      if (id == null) {
+        id = dictionary.size();
+        dictionary.put(entry.getNode(), id);
+        dataOutputStream.writeUTF(entry.getNode());
+      }
+
+      putVarint(nodes, id);
+      statuses.write(Math.max(0, STATUSES.indexOf(entry.getStatus())));
+      putVarint(durations, Math.max(0L, entry.getDuration()));
+      rows++;
+    }
+
+    var run = ByteBuffer.allocate(RUN);
+    run.putLong(time);
+    run.putLong(ends[ROW_END] + rows);
+    run.putLong(write(folder.resolve(NODE), ends[NODE_END], nodes.toByteArray()));
+    run.putLong(write(folder.resolve(DURATION), ends[DURATION_END], durations.toByteArray()));
+    run.putLong(write(folder.resolve(DICTIONARY), ends[DICTIONARY_END], added.toByteArray()));
+    write(folder.resolve(STATUS), ends[ROW_END], statuses.toByteArray());
+
+    write(folder.resolve(RUNS), ends[RUNS_END], run.array());
+  }
+
+  private static void putVarint(ByteArrayOutputStream byteArrayOutputStream, long value) {
+    var remaining = value;
+
+    while ((remaining & ~0x7FL) != 0L) {
+      byteArrayOutputStream.write((int) (remaining & 0x7F | 0x80));
+      remaining >>>= 7;
+    }
+
+    byteArrayOutputStream.write((int) remaining);
+  }
+
+  private static long[] readEnds(Path folder) throws IOException {
+    var ends = new long[RUN / Long.BYTES];
+
+    try (var fileChannel =
+        FileChannel.open(
+            folder.resolve(RUNS),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      var size = fileChannel.size();
+
+      if (size < HEADER) {
+        var header = ByteBuffer.allocate(HEADER).putInt(MAGIC).putInt(VERSION).flip();
+        fileChannel.truncate(0L);
+        while (header.hasRemaining()) fileChannel.write(header, header.position());
+        fileChannel.force(false);
+      } else {
+        var header = ByteBuffer.allocate(HEADER);
+        while (header.hasRemaining())
+          if (fileChannel.read(header, header.position()) < 0) throw new EOFException();
+
+        if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION)
+          throw new IOException("Not a history.");
+
+        var count = (size - HEADER) / RUN;
+
+        if (count > 0L) {
+          var last = ByteBuffer.allocate(RUN);
+          var position = HEADER + (count - 1L) * RUN;
+
+          while (last.hasRemaining())
+            if (fileChannel.read(last, position + last.position()) < 0) throw new EOFException();
+
+          last.flip();
+          for (var i = ROW_END; i < ends.length; i++) ends[i] = last.getLong(i * Long.BYTES);
+        }
+      }
+
+      ends[RUNS_END] = HEADER + (size < HEADER ? 0L : (size - HEADER) / RUN * RUN);
+    }
+
+    return ends;
+  }
+
+  private static long write(Path file, long end, byte[] bytes) throws IOException {
+    try (var fileChannel =
+        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      fileChannel.truncate(end);
+
+      var byteBuffer = ByteBuffer.wrap(bytes);
+      while (byteBuffer.hasRemaining()) fileChannel.write(byteBuffer, end + byteBuffer.position());
+
+      fileChannel.force(false);
+    }
+
+    return end + bytes.length;
+  }
+}
@@ -0,0 +1,201 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Expands a journal written by the {@link JournalReporter} into the file hierarchy written by the
+ * {@link DefaultReporter}.
+ *
+ * @since 1.0
+ */
+public final class JournalExporter {
+  private static final String LOG = ".log";
+  private static final Logger LOGGER = Logger.getLogger(JournalExporter.class.getName());
+
+  private final Path directory;
+  private final Map<Path, FolderNames> folderNames = new HashMap<>(16);
+  private final LogFileCache logFileCache = new LogFileCache(256);
+  private final Map<Integer, Path> paths = new HashMap<>(16);
+  private final Path rootLog;
+
+  private JournalExporter(Path directory) {
+    this.directory = directory;
+    rootLog = directory.resolve(LOG);
+  }
+
+  /**
+   * Expands the journal into the directory. The directory is created if it does not exist.
+   *
+   * @param journal the journal
+   * @param directory the directory
+   * @throws IOException if the journal could not be read or the directory could not be written
+   * @since 1.0
+   */
+  public static void export(Path journal, Path directory) throws IOException {
+    try (var dataInputStream =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(journal)))) {
+      if (dataInputStream.readInt() != JournalWriter.MAGIC)
+        throw new IOException(String.format("The file %s is not a journal.", journal));
+      dataInputStream.readInt();
+
+      Files.createDirectories(directory);
+
+      var journalExporter = new JournalExporter(directory);
+
+      try {
+        journalExporter.export(dataInputStream);
+      } finally {
+        journalExporter.logFileCache.close();
+      }
+    }
+  }
+
+  /**
+   * Expands the journal given as the first argument into the directory given as the second
+   * argument.
+   *
+   * @param args the journal and the directory
+   * @throws IOException if the journal could not be read or the directory could not be written
+   * @since 1.0
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length == 2) export(Path.of(args[0]), Path.of(args[1]));
+    else LOGGER.log(Level.SEVERE, "Usage: JournalExporter <journal> <directory>");
+  }
+
+  private void addNode(int id, int parent, String name) {
+    var parentFolder =
+        Optional.ofNullable(paths.get(parent)).map(Path::getParent).orElse(directory);
+    var folder =
+        parentFolder.resolve(
+            folderNames.computeIfAbsent(parentFolder, key -> new FolderNames()).get(name));
+
+    try {
+      Files.createDirectory(folder);
+      paths.put(id, Files.createFile(folder.resolve(LOG)));
+    } catch (FileAlreadyExistsException e) {
+      LOGGER.log(Level.SEVERE, "The directory {0} does already exist.", folder);
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The directory %s could not be created.", folder), e);
+    }
+  }
+
+  private void export(DataInputStream dataInputStream) throws IOException {
+    var bytes = new byte[1024];
+
+    while (true) {
+      int length;
+
+      try {
+        length = dataInputStream.readInt();
+        if (bytes.length < length) bytes = new byte[length];
+
+        dataInputStream.readFully(bytes, 0, length);
+      } catch (EOFException e) {
+        LOGGER.log(Level.FINE, "End of journal.", e);
+        break;
+      }
+
+      export(ByteBuffer.wrap(bytes, 0, length));
+    }
+  }
+
+  private void export(ByteBuffer byteBuffer) {
+    var type = byteBuffer.get();
+    var millis = byteBuffer.getLong();
+    var node = byteBuffer.getInt();
+
+    if (type == JournalWriter.NODE) {
+      var parent = byteBuffer.getInt();
+      addNode(node, parent, getString(byteBuffer));
+    } else if (type == JournalWriter.STARTED) write(node, millis, Level.INFO, Messages.STARTED);
+    else if (type == JournalWriter.LOG) exportLog(byteBuffer, node, millis);
+    else if (type == JournalWriter.FINISHED) {
+      var status = getString(byteBuffer);
+      var duration = byteBuffer.getLong();
+      var throwable = getString(byteBuffer);
+
+      write(
+          node,
+          millis,
+          Level.INFO,
+          Messages.finished(status, duration, throwable == null ? "" : throwable));
+    } else if (type == JournalWriter.SKIPPED)
+      write(node, millis, Level.INFO, Messages.skipped(getString(byteBuffer)));
+    else if (type == JournalWriter.TERMINATED)
+      write(
+          node,
+          millis,
+          Level.INFO,
+          Messages.summary(
+              byteBuffer.getLong(),
+              byteBuffer.getLong(),
+              byteBuffer.getLong(),
+              byteBuffer.getLong()));
+  }
+
+  private void exportLog(ByteBuffer byteBuffer, int node, long millis) {
+    var name = getString(byteBuffer);
+    var value = byteBuffer.getInt();
+    var message = getString(byteBuffer);
+    var thrown = getString(byteBuffer);
+
+    write(node, millis, getLevel(name, value), message);
+    if (thrown != null)
+      logFileCache.get(paths.getOrDefault(node, rootLog)).ifPresent(file -> file.write(thrown));
+  }
+
+  private void write(int node, long millis, Level level, String message) {
+    var logRecord = new LogRecord(level, message);
+    logRecord.setInstant(Instant.ofEpochMilli(millis));
+
+    logFileCache.get(paths.getOrDefault(node, rootLog)).ifPresent(file -> file.write(logRecord));
+  }
+
+  private static Level getLevel(String name, int value) {
+    Level level;
+
+    try {
+      level = Level.parse(name);
+    } catch (IllegalArgumentException e) {
+      level = new JournalLevel(name, value);
+    }
+
+    return level;
+  }
+
+  private static String getString(ByteBuffer byteBuffer) {
+    var length = byteBuffer.getInt();
+    String text = null;
+
+    if (length >= 0) {
+      text = new String(byteBuffer.array(), byteBuffer.position(), length, StandardCharsets.UTF_8);
+      byteBuffer.position(byteBuffer.position() + length);
+    }
+
+    return text;
+  }
+
+  private static final class JournalLevel extends Level {
+    private static final long serialVersionUID = 1L;
+
+    private JournalLevel(String name, int value) {
+      super(name, value);
+    }
+  }
+}
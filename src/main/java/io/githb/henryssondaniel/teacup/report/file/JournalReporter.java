@@ -0,0 +1,193 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.reporting.Reporter;
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import io.github.henryssondaniel.teacup.core.testing.Result;
+import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Reporter that saves all events into one append-only binary journal. The journal can be expanded
+ * into the same file hierarchy as the {@link DefaultReporter} with the {@link JournalExporter}.
+ *
+ * @since 1.0
+ */
+public class JournalReporter implements Reporter {
+  private static final Logger LOGGER = Logger.getLogger(JournalReporter.class.getName());
+
+  private final LongAdder aborted = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final Map<Node, Integer> ids = new ConcurrentHashMap<>(16);
+  private final AtomicInteger nextId = new AtomicInteger();
+  private final Path path;
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder successful = new LongAdder();
+
+  private volatile JournalWriter journalWriter;
+
+  /**
+   * Constructor.
+   *
+   * @since 1.0
+   */
+  public JournalReporter() {
+    this(
+        Path.of(
+            System.getProperty("user.home"),
+            ".teacup",
+            "logs",
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS"))
+                + ".journal"));
+  }
+
+  JournalReporter(Path path) {
+    this.path = path;
+  }
+
+  @Override
+  public void finished(Node node, Result result) {
+    LOGGER.log(Level.FINE, "Finished");
+
+    var status = result.getStatus();
+
+    if (status == Status.ABORTED) aborted.increment();
+    else if (status == Status.FAILED) failed.increment();
+    else successful.increment();
+
+    var writer = journalWriter;
+    if (writer != null) {
+      writer.writeFinished(
+          getId(node),
+          System.currentTimeMillis(),
+          status.name(),
+          node.getTimeFinished() - node.getTimeStarted(),
+          result.getThrowable().map(Throwable::toString).orElse(null));
+      writer.flush();
+    }
+  }
+
+  @Override
+  public void initialize() {
+    try {
+      Files.createDirectories(path.toAbsolutePath().getParent());
+      journalWriter = new JournalWriter(path);
+    } catch (FileAlreadyExistsException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The journal %s does already exist. No logs will be saved.", path),
+          e);
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The journal %s could not be created. No logs will be saved.", path),
+          e);
+    }
+  }
+
+  @Override
+  public void initialized(Collection<? extends Node> nodes) {
+    LOGGER.log(Level.FINE, "Initialized");
+
+    var writer = journalWriter;
+    if (writer != null) addNodes(nodes, JournalWriter.NO_NODE, System.currentTimeMillis(), writer);
+  }
+
+  @Override
+  public void log(LogRecord logRecord, Node node) {
+    LOGGER.log(Level.FINE, "Log");
+
+    var writer = journalWriter;
+    if (writer != null) {
+      var level = logRecord.getLevel();
+      var thrown = logRecord.getThrown();
+
+      writer.writeLog(
+          getId(node),
+          logRecord.getInstant().toEpochMilli(),
+          level.getName(),
+          level.intValue(),
+          RecordFormatter.formatMessage(logRecord),
+          thrown == null ? null : RecordFormatter.stackTrace(thrown));
+    }
+  }
+
+  @Override
+  public void skipped(Node node, String reason) {
+    LOGGER.log(Level.INFO, "Skipped");
+
+    var writer = journalWriter;
+    if (writer != null) {
+      skipped.increment();
+
+      writer.writeSkipped(getId(node), System.currentTimeMillis(), reason);
+      writer.flush();
+    }
+  }
+
+  @Override
+  public void started(Node node) {
+    LOGGER.log(Level.FINE, Messages.STARTED);
+
+    var writer = journalWriter;
+    if (writer != null) writer.writeStarted(getId(node), System.currentTimeMillis());
+  }
+
+  @Override
+  public void terminated() {
+    LOGGER.log(Level.FINE, "Terminated");
+
+    var writer = journalWriter;
+    if (writer != null) {
+      writer.writeTerminated(
+          System.currentTimeMillis(), aborted.sum(), failed.sum(), skipped.sum(), successful.sum());
+      writer.close();
+    }
+
+    aborted.reset();
+    failed.reset();
+    ids.clear();
+    journalWriter = null;
+    nextId.set(0);
+    skipped.reset();
+    successful.reset();
+  }
+
+  private void addNodes(
+      Iterable<? extends Node> nodes, int parent, long millis, JournalWriter writer) {
+    var added = new AtomicBoolean();
+
+    for (var node : nodes) {
+      var id =
+          ids.computeIfAbsent(
+              node,
+              key -> {
+                added.set(true);
+                return nextId.getAndIncrement();
+              });
+
+      if (added.getAndSet(false)) {
+        writer.writeNode(id, millis, parent, node.getName());
+
+        addNodes(node.getNodes(), id, millis, writer);
+      }
+    }
+  }
+
+  private int getId(Node node) {
+    return ids.getOrDefault(node, JournalWriter.NO_NODE);
+  }
+}
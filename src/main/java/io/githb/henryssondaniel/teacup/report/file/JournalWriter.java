@@ -0,0 +1,141 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+class JournalWriter {
+  static final byte FINISHED = 3;
+  static final byte LOG = 2;
+  static final int MAGIC = 0x54434A31;
+  static final byte NODE = 0;
+  static final int NO_NODE = -1;
+  static final byte SKIPPED = 4;
+  static final byte STARTED = 1;
+  static final byte TERMINATED = 5;
+  static final int VERSION = 1;
+
+  private static final int HEADER = Byte.BYTES + Long.BYTES + Integer.BYTES;
+  private static final Logger LOGGER = Logger.getLogger(JournalWriter.class.getName());
+
+  private final FileChannel fileChannel;
+  private final Path path;
+
+  private ByteBuffer byteBuffer = ByteBuffer.allocate(65_536);
+
+  JournalWriter(Path path) throws IOException {
+    fileChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    this.path = path;
+
+    byteBuffer.putInt(MAGIC).putInt(VERSION);
+  }
+
+  synchronized void close() {
+    flush();
+
+    try {
+      fileChannel.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The journal %s could not be closed.", path), e);
+    }
+  }
+
+  synchronized void flush() {
+    byteBuffer.flip();
+
+    try {
+      while (byteBuffer.hasRemaining()) fileChannel.write(byteBuffer);
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The journal %s could not be written to. Entries are lost.", path),
+          e);
+    }
+
+    byteBuffer.clear();
+  }
+
+  synchronized void writeFinished(
+      int node, long millis, String status, long duration, String throwable) {
+    var statusBytes = bytes(status);
+    var throwableBytes = bytes(throwable);
+
+    begin(FINISHED, millis, node, size(statusBytes) + Long.BYTES + size(throwableBytes));
+    putString(statusBytes);
+    byteBuffer.putLong(duration);
+    putString(throwableBytes);
+  }
+
+  synchronized void writeLog(
+      int node, long millis, String level, int levelValue, String message, String thrown) {
+    var levelBytes = bytes(level);
+    var messageBytes = bytes(message);
+    var thrownBytes = bytes(thrown);
+
+    begin(
+        LOG,
+        millis,
+        node,
+        size(levelBytes) + Integer.BYTES + size(messageBytes) + size(thrownBytes));
+    putString(levelBytes);
+    byteBuffer.putInt(levelValue);
+    putString(messageBytes);
+    putString(thrownBytes);
+  }
+
+  synchronized void writeNode(int node, long millis, int parent, String name) {
+    var nameBytes = bytes(name);
+
+    begin(NODE, millis, node, Integer.BYTES + size(nameBytes));
+    byteBuffer.putInt(parent);
+    putString(nameBytes);
+  }
+
+  synchronized void writeSkipped(int node, long millis, String reason) {
+    var reasonBytes = bytes(reason);
+
+    begin(SKIPPED, millis, node, size(reasonBytes));
+    putString(reasonBytes);
+  }
+
+  synchronized void writeStarted(int node, long millis) {
+    begin(STARTED, millis, node, 0);
+  }
+
+  synchronized void writeTerminated(
+      long millis, long aborted, long failed, long skipped, long successful) {
+    begin(TERMINATED, millis, NO_NODE, 4 * Long.BYTES);
+    byteBuffer.putLong(aborted).putLong(failed).putLong(skipped).putLong(successful);
+  }
+
+  private void begin(byte type, long millis, int node, int payload) {
+    var length = HEADER + payload;
+
+    if (byteBuffer.remaining() < Integer.BYTES + length) {
+      flush();
+
+      if (byteBuffer.capacity() < Integer.BYTES + length)
+        byteBuffer = ByteBuffer.allocate(Integer.BYTES + length);
+    }
+
+    byteBuffer.putInt(length).put(type).putLong(millis).putInt(node);
+  }
+
+  private void putString(byte[] bytes) {
+    if (bytes == null) byteBuffer.putInt(-1);
+    else byteBuffer.putInt(bytes.length).put(bytes);
+  }
+
+  private static byte[] bytes(String text) {
+    return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int size(byte[] bytes) {
+    return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+  }
+}
@@ -0,0 +1,78 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+/**
+ * The latency of a reporter method in nanoseconds. The percentiles are the highest value of the
+ * bucket they fall into, and the buckets are at most 1/16 of their value wide.
+ *
+ * @since 1.0
+ */
+public final class Latency {
+  private final long count;
+  private final long max;
+  private final long p50;
+  private final long p99;
+  private final long p999;
+
+  Latency(Histogram histogram) {
+    count = histogram.getCount();
+    max = histogram.getMax();
+    p50 = histogram.getPercentile(50.0);
+    p99 = histogram.getPercentile(99.0);
+    p999 = histogram.getPercentile(99.9);
+  }
+
+  /**
+   * Returns the number of calls.
+   *
+   * @return the number of calls
+   * @since 1.0
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the highest latency.
+   *
+   * @return the highest latency
+   * @since 1.0
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the median latency.
+   *
+   * @return the median latency
+   * @since 1.0
+   */
+  public long getP50() {
+    return p50;
+  }
+
+  /**
+   * Returns the 99th percentile latency.
+   *
+   * @return the 99th percentile latency
+   * @since 1.0
+   */
+  public long getP99() {
+    return p99;
+  }
+
+  /**
+   * Returns the 99.9th percentile latency.
+   *
+   * @return the 99.9th percentile latency
+   * @since 1.0
+   */
+  public long getP999() {
+    return p999;
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + count + ", p50=" + p50 + ", p99=" + p99 + ", p999=" + p999 + ", max=" + max;
+  }
+}
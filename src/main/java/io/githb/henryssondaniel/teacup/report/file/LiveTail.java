@@ -0,0 +1,300 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+class LiveTail implements Runnable {
+  static final String PATH = "/events";
+
+  private static final Logger LOGGER = Logger.getLogger(LiveTail.class.getName());
+  private static final String NOT_FOUND =
+      "HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\nConnection: close\r\n\r\n";
+  private static final String OK =
+      "HTTP/1.1 200 OK\r\n"
+          + "Content-Type: text/event-stream; charset=utf-8\r\n"
+          + "Cache-Control: no-cache\r\n"
+          + "Connection: close\r\n\r\n";
+  private static final int REQUEST = 8192;
+
+  private final int capacity;
+  private final ByteBuffer discard = ByteBuffer.allocate(256);
+  private final Selector selector;
+  private final ServerSocketChannel serverSocketChannel;
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  private final Thread thread = new Thread(this, "teacup-report-file-live");
+
+  private volatile boolean running = true;
+
+  LiveTail(int port, int capacity) throws IOException {
+    this.capacity = capacity;
+    selector = Selector.open();
+    serverSocketChannel = ServerSocketChannel.open();
+
+    try {
+      serverSocketChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+      serverSocketChannel.configureBlocking(false);
+      serverSocketChannel.register(selector, SelectionKey.OP_ACCEPT);
+    } catch (IOException e) {
+      serverSocketChannel.close();
+      selector.close();
+      throw e;
+    }
+
+    thread.setDaemon(true);
+  }
+
+  void close() {
+    running = false;
+    selector.wakeup();
+
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(1L));
+    } catch (InterruptedException e) {
+      LOGGER.log(Level.SEVERE, "Interrupted while waiting for the live thread.", e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  InetSocketAddress getAddress() {
+    return (InetSocketAddress) serverSocketChannel.socket().getLocalSocketAddress();
+  }
+
+  boolean isSubscribed() {
+    return !subscribers.isEmpty();
+  }
+
+  void publish(String node, LogRecord logRecord) {
+    var all = logRecord instanceof Event && Event.TERMINATED.equals(((Event) logRecord).getType());
+    ByteBuffer event = null;
+    var wakeup = false;
+
+    for (var subscriber : subscribers)
+      if (all || subscriber.accept(node)) {
+        if (event == null) event = encode(node, logRecord);
+        wakeup |= subscriber.offer(event.duplicate());
+      }
+
+    if (wakeup) selector.wakeup();
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (running) {
+        selector.select();
+
+        var selectionKeys = selector.selectedKeys();
+        for (var selectionKey : selectionKeys) handle(selectionKey);
+        selectionKeys.clear();
+
+        for (var subscriber : subscribers) subscriber.interest();
+      }
+    } catch (ClosedSelectorException | IOException e) {
+      LOGGER.log(Level.SEVERE, "The live logs could not be served.", e);
+    } finally {
+      shutdown();
+    }
+  }
+
+  void start() {
+    thread.start();
+    LOGGER.log(
+        Level.INFO, "The live logs are served at http://{0}{1}", new Object[] {getAddress(), PATH});
+  }
+
+  private void accept() throws IOException {
+    var socketChannel = serverSocketChannel.accept();
+
+    if (socketChannel != null) {
+      socketChannel.configureBlocking(false);
+
+      var subscriber = new Subscriber(socketChannel);
+      subscriber.selectionKey = socketChannel.register(selector, SelectionKey.OP_READ, subscriber);
+    }
+  }
+
+  private void handle(SelectionKey selectionKey) {
+    var subscriber = (Subscriber) selectionKey.attachment();
+
+    try {
+      if (subscriber == null) accept();
+      else {
+        if (selectionKey.isReadable()) subscriber.read();
+        if (selectionKey.isValid() && selectionKey.isWritable()) subscriber.write();
+      }
+    } catch (CancelledKeyException | IOException e) {
+      LOGGER.log(Level.FINE, "A live log subscriber disconnected.", e);
+      if (subscriber != null) subscriber.close();
+    }
+  }
+
+  private void shutdown() {
+    for (var subscriber : subscribers)
+      try {
+        subscriber.write();
+      } catch (CancelledKeyException | IOException e) {
+        LOGGER.log(Level.FINE, "The last live logs could not be sent.", e);
+      }
+
+    for (var selectionKey : selector.keys())
+      if (selectionKey.attachment() != null) ((Subscriber) selectionKey.attachment()).close();
+
+    subscribers.clear();
+
+    try {
+      serverSocketChannel.close();
+      selector.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "The live log server could not be closed.", e);
+    }
+  }
+
+  private static ByteBuffer encode(String node, LogRecord logRecord) {
+    var stringBuilder =
+        new StringBuilder(256)
+            .append("event: ")
+            .append(logRecord instanceof Event ? ((Event) logRecord).getType() : "log")
+            .append("\ndata: ");
+    RecordFormatter.format(logRecord, Format.JSON, node, stringBuilder);
+    stringBuilder.append('\n');
+
+    return encode(stringBuilder);
+  }
+
+  private static ByteBuffer encode(CharSequence text) {
+    return ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+  }
+
+  private static String getFilter(String target) {
+    var query = target.indexOf('?');
+    String filter = null;
+
+    if (query >= 0)
+      for (var parameter : target.substring(query + 1).split("&"))
+        if (parameter.startsWith("node="))
+          filter = URLDecoder.decode(parameter.substring(5), StandardCharsets.UTF_8);
+
+    return filter;
+  }
+
+  private final class Subscriber {
+    private final AtomicLong dropped = new AtomicLong();
+    private final Queue<ByteBuffer> queue = new ArrayBlockingQueue<>(capacity);
+    private final AtomicBoolean signalled = new AtomicBoolean();
+    private final SocketChannel socketChannel;
+
+    private boolean closing;
+    private ByteBuffer current;
+    private String filter;
+    private ByteBuffer request = ByteBuffer.allocate(REQUEST);
+    private SelectionKey selectionKey;
+
+    private Subscriber(SocketChannel socketChannel) {
+      this.socketChannel = socketChannel;
+    }
+
+    private boolean accept(String node) {
+      return filter == null
+          || node != null
+              && node.startsWith(filter)
+              && (node.length() == filter.length() || node.charAt(filter.length()) == '/');
+    }
+
+    private void close() {
+      subscribers.remove(this);
+      selectionKey.cancel();
+
+      try {
+        socketChannel.close();
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, "A live log subscriber could not be closed.", e);
+      }
+    }
+
+    private void interest() {
+      if (signalled.getAndSet(false) && selectionKey.isValid())
+        selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    private ByteBuffer next() {
+      var byteBuffer = queue.poll();
+
+      if (byteBuffer == null) {
+        var count = dropped.getAndSet(0L);
+        if (count > 0L) byteBuffer = encode(": " + Messages.dropped(count) + "\n\n");
+      }
+
+      return byteBuffer;
+    }
+
+    private boolean offer(ByteBuffer byteBuffer) {
+      if (!queue.offer(byteBuffer)) dropped.incrementAndGet();
+
+      return !signalled.get() && !signalled.getAndSet(true);
+    }
+
+    private void read() throws IOException {
+      discard.clear();
+      if (socketChannel.read(request == null ? discard : request) < 0) throw new EOFException();
+
+      if (request != null) {
+        var text = new String(request.array(), 0, request.position(), StandardCharsets.ISO_8859_1);
+        if (text.contains("\r\n\r\n") || !request.hasRemaining()) respond(text);
+      }
+    }
+
+    private void respond(String text) {
+      var line = text.split("\r\n", 2)[0].split(" ");
+      var target = line.length > 1 ? line[1] : "";
+      var query = target.indexOf('?');
+
+      request = null;
+
+      if ("GET".equals(line[0]) && PATH.equals(query < 0 ? target : target.substring(0, query))) {
+        filter = getFilter(target);
+        current = encode(OK);
+        subscribers.add(this);
+      } else {
+        closing = true;
+        current = encode(NOT_FOUND);
+      }
+
+      selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    private void write() throws IOException {
+      if (current == null || !current.hasRemaining()) current = next();
+
+      for (var written = 0; current != null && written < capacity; written++) {
+        socketChannel.write(current);
+
+        if (current.hasRemaining()) written = capacity;
+        else current = next();
+      }
+
+      if (current == null && closing) close();
+      else if (current == null) selectionKey.interestOps(SelectionKey.OP_READ);
+    }
+  }
+}
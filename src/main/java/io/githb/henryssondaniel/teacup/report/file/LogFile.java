@@ -0,0 +1,271 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+class LogFile {
+  private static final String FORCE_ERROR =
+      "The file %s could not be forced to the storage device. The logs may be lost in a crash.";
+  private static final Logger LOGGER = Logger.getLogger(LogFile.class.getName());
+  private static final int MEMBER = 1_048_576;
+
+  private final Codec codec;
+  private final ByteArrayOutputStream compressed;
+  private final Durability durability;
+  private final Format format;
+  private final Metrics metrics;
+  private final String node;
+  private final Path path;
+  private final long rotation;
+  private final int segment;
+
+  private boolean closed;
+  private OutputStream compressor;
+  private FileChannel fileChannel;
+  private MappedByteBuffer mappedByteBuffer;
+  private boolean mapping;
+  private long position;
+  private int rotations;
+  private int uncompressed;
+
+  LogFile(Path path) throws IOException {
+    this(path, 0);
+  }
+
+  LogFile(Path path, int segment) throws IOException {
+    this(path, segment, null);
+  }
+
+  LogFile(Path path, int segment, Codec codec) throws IOException {
+    this(path, segment, codec, 0L);
+  }
+
+  LogFile(Path path, int segment, Codec codec, long rotation) throws IOException {
+    this(path, segment, codec, rotation, new Metrics(), Durability.NONE);
+  }
+
+  LogFile(
+      Path path, int segment, Codec codec, long rotation, Metrics metrics, Durability durability)
+      throws IOException {
+    this(path, segment, codec, rotation, metrics, durability, Format.TEXT, null);
+  }
+
+  LogFile(
+      Path path,
+      int segment,
+      Codec codec,
+      long rotation,
+      Metrics metrics,
+      Durability durability,
+      Format format,
+      String node)
+      throws IOException {
+    this.codec = codec;
+    compressed = codec == null ? null : new ByteArrayOutputStream(8192);
+    this.durability = durability;
+    fileChannel = open(path, segment);
+    this.format = format;
+    mapping = segment > 0;
+    this.metrics = metrics;
+    this.node = node;
+    this.path = path;
+    position = fileChannel.size();
+    this.rotation = rotation;
+    this.segment = segment;
+  }
+
+  synchronized void close() {
+    if (!closed) {
+      flush();
+      if (durability != Durability.NONE) force();
+
+      closed = true;
+
+      try {
+        if (segment > 0) fileChannel.truncate(position);
+      } catch (IOException e) {
+        LOGGER.log(Level.SEVERE, String.format("The file %s could not be truncated.", path), e);
+      } finally {
+        mappedByteBuffer = null;
+        closeChannel();
+      }
+    }
+  }
+
+  void format(LogRecord logRecord, StringBuilder stringBuilder) {
+    RecordFormatter.format(logRecord, format, node, stringBuilder);
+  }
+
+  synchronized void force() {
+    if (!closed) {
+      flush();
+
+      try {
+        sync();
+      } catch (IOException e) {
+        metrics.addFailedWrite();
+        LOGGER.log(Level.SEVERE, String.format(FORCE_ERROR, path), e);
+      }
+    }
+  }
+
+  synchronized void flush() {
+    if (compressor != null)
+      try {
+        compressor.close();
+        compressed.writeTo(Channels.newOutputStream(fileChannel));
+        position += compressed.size();
+      } catch (IOException e) {
+        metrics.addFailedWrite();
+        LOGGER.log(
+            Level.SEVERE,
+            String.format("The file %s could not be written to. The logs are lost.", path),
+            e);
+      } finally {
+        compressed.reset();
+        compressor = null;
+        uncompressed = 0;
+      }
+  }
+
+  synchronized boolean write(ByteBuffer byteBuffer) {
+    if (!closed) {
+      metrics.addBytes(byteBuffer.remaining());
+
+      try {
+        if (codec != null) writeCompressed(byteBuffer);
+        else if (segment > 0) writeMapped(byteBuffer);
+        else while (byteBuffer.hasRemaining()) position += fileChannel.write(byteBuffer);
+
+        if (durability == Durability.RECORD) {
+          flush();
+          sync();
+        }
+
+        if (rotation > 0L && position >= rotation) rotate();
+      } catch (IOException e) {
+        metrics.addFailedWrite();
+        LOGGER.log(
+            Level.SEVERE,
+            String.format("The file %s could not be written to. The log is lost.", path),
+            e);
+      }
+    }
+
+    return !closed;
+  }
+
+  boolean write(CharSequence text) {
+    return write(RecordFormatter.encode(text));
+  }
+
+  boolean write(LogRecord logRecord) {
+    return write(RecordFormatter.encode(logRecord, format, node));
+  }
+
+  private void closeChannel() {
+    try {
+      fileChannel.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The file %s could not be closed.", path), e);
+    }
+  }
+
+  private Path getSegmentPath(int number) {
+    var name = path.getFileName().toString();
+    var extension = codec == null ? "" : codec.getExtension();
+
+    return path.resolveSibling(
+        extension.isEmpty() || !name.endsWith(extension)
+            ? name + '.' + number
+            : name.substring(0, name.length() - extension.length()) + '.' + number + extension);
+  }
+
+  private MappedByteBuffer map(int length) {
+    MappedByteBuffer mapped = null;
+
+    if (mapping)
+      try {
+        mapped = fileChannel.map(MapMode.READ_WRITE, position, Math.max(segment, length));
+      } catch (IOException | UnsupportedOperationException e) {
+        LOGGER.log(
+            Level.WARNING,
+            String.format(
+                "The file %s could not be mapped. The logs will be written instead.", path),
+            e);
+        mapping = false;
+      }
+
+    return mapped;
+  }
+
+  private void rotate() throws IOException {
+    if (durability != Durability.NONE) sync();
+    if (segment > 0) fileChannel.truncate(position);
+
+    mappedByteBuffer = null;
+    fileChannel.close();
+
+    Path target;
+    do target = getSegmentPath(++rotations);
+    while (Files.exists(target));
+
+    try {
+      Files.move(path, target);
+    } finally {
+      fileChannel = open(path, segment);
+      mapping = segment > 0;
+      position = fileChannel.size();
+    }
+  }
+
+  private void sync() throws IOException {
+    if (mappedByteBuffer != null) mappedByteBuffer.force();
+    fileChannel.force(false);
+  }
+
+  private void writeCompressed(ByteBuffer byteBuffer) throws IOException {
+    if (compressor == null) compressor = codec.compress(compressed);
+
+    var length = byteBuffer.remaining();
+    compressor.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length);
+    byteBuffer.position(byteBuffer.limit());
+
+    uncompressed += length;
+    if (uncompressed >= MEMBER || rotation > 0L && uncompressed >= rotation) flush();
+  }
+
+  private void writeMapped(ByteBuffer byteBuffer) throws IOException {
+    var length = byteBuffer.remaining();
+
+    if (mappedByteBuffer == null || mappedByteBuffer.remaining() < length)
+      mappedByteBuffer = map(length);
+
+    if (mappedByteBuffer == null)
+      while (byteBuffer.hasRemaining()) position += fileChannel.write(byteBuffer, position);
+    else {
+      mappedByteBuffer.put(byteBuffer);
+      position += length;
+    }
+  }
+
+  private static FileChannel open(Path path, int segment) throws IOException {
+    return segment > 0
+        ? FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+        : FileChannel.open(
+            path, StandardOpenOption.APPEND, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+  }
+}
@@ -0,0 +1,267 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+class LogFileCache {
+  private static final Logger LOGGER = Logger.getLogger(LogFileCache.class.getName());
+
+  private final Map<Path, CompletableFuture<Void>> busy = new HashMap<>(16);
+  private final int capacity;
+  private final List<LogFile> closing = new ArrayList<>(0);
+  private final Codec codec;
+  private final Durability durability;
+  private final Collection<Map.Entry<Path, LogFile>> evicted = new ArrayList<>(1);
+  private final Format format;
+  private final boolean lazy;
+  private final Map<Path, LogFile> logFiles;
+  private final Metrics metrics;
+  private final Path root;
+  private final long rotation;
+  private final int segment;
+
+  LogFileCache(int capacity) {
+    this(capacity, false, 0, null, 0L, new Metrics(), Durability.NONE, Format.TEXT, null);
+  }
+
+  LogFileCache(
+      int capacity,
+      boolean lazy,
+      int segment,
+      Codec codec,
+      long rotation,
+      Metrics metrics,
+      Durability durability,
+      Format format,
+      Path root) {
+    this.capacity = capacity;
+    this.codec = codec;
+    this.durability = durability;
+    this.format = format;
+    this.lazy = lazy;
+    logFiles = new LruMap(capacity, evicted);
+    this.metrics = metrics;
+    this.root = root;
+    this.rotation = rotation;
+    this.segment = segment;
+  }
+
+  synchronized void close() {
+    var values = new ArrayList<>(logFiles.values());
+    values.addAll(closing);
+
+    closing.clear();
+    logFiles.clear();
+
+    values.forEach(LogFile::close);
+  }
+
+  void close(Path path) {
+    Collection<Map.Entry<Path, LogFile>> closed = new ArrayList<>(1);
+    List<LogFile> finished;
+
+    synchronized (this) {
+      var logFile = logFiles.remove(path);
+
+      if (logFile != null) {
+        if (durability == Durability.PERIODIC) closing.add(logFile);
+        else closed.add(new AbstractMap.SimpleImmutableEntry<>(path, logFile));
+      }
+
+      reserve(closed);
+      finished = removeClosing();
+    }
+
+    release(closed);
+    finished.forEach(LogFile::close);
+  }
+
+  void force() {
+    List<LogFile> closed;
+    List<LogFile> open;
+
+    synchronized (this) {
+      closed = new ArrayList<>(closing);
+      open = new ArrayList<>(logFiles.values());
+
+      closing.clear();
+    }
+
+    open.forEach(LogFile::force);
+    closed.forEach(LogFile::close);
+  }
+
+  Optional<LogFile> get(Path path) {
+    LogFile logFile;
+    CompletableFuture<Void> pending;
+    CompletableFuture<Void> reservation = null;
+
+    do {
+      synchronized (this) {
+        logFile = logFiles.get(path);
+        pending = logFile == null ? busy.get(path) : null;
+
+        if (logFile == null && pending == null) {
+          reservation = new CompletableFuture<>();
+          busy.put(path, reservation);
+        }
+      }
+
+      if (pending != null) pending.join();
+    } while (pending != null);
+
+    return Optional.ofNullable(reservation == null ? logFile : open(path, reservation));
+  }
+
+  synchronized int size() {
+    return logFiles.size();
+  }
+
+  void write(Path path, ByteBuffer byteBuffer) {
+    get(path).ifPresent(logFile -> write(path, logFile, current -> current.write(byteBuffer)));
+  }
+
+  void write(Path path, CharSequence text) {
+    get(path).ifPresent(logFile -> write(path, logFile, current -> current.write(text)));
+  }
+
+  void write(Path path, Supplier<? extends LogRecord> supplier) {
+    get(path)
+        .ifPresent(
+            logFile -> {
+              var logRecord = supplier.get();
+              write(path, logFile, current -> current.write(logRecord));
+            });
+  }
+
+  private LogFile open(Path path) throws IOException {
+    var node = format.getNode(root, path);
+    LogFile logFile;
+
+    try {
+      logFile = new LogFile(path, segment, codec, rotation, metrics, durability, format, node);
+    } catch (NoSuchFileException e) {
+      if (!lazy) throw e;
+
+      Files.createDirectories(path.getParent());
+      logFile = new LogFile(path, segment, codec, rotation, metrics, durability, format, node);
+    }
+
+    metrics.addOpenedFile();
+
+    return logFile;
+  }
+
+  private LogFile open(Path path, CompletableFuture<Void> reservation) {
+    LogFile logFile = null;
+
+    try {
+      logFile = open(path);
+    } catch (IOException e) {
+      metrics.addFailedWrite();
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The file %s could not be written to. The logs will not be saved.", path),
+          e);
+    }
+
+    Collection<Map.Entry<Path, LogFile>> closed;
+    List<LogFile> finished;
+
+    synchronized (this) {
+      busy.remove(path);
+      if (logFile != null) logFiles.put(path, logFile);
+
+      closed = new ArrayList<>(evicted);
+      evicted.clear();
+      reserve(closed);
+      finished = removeClosing();
+    }
+
+    reservation.complete(null);
+    release(closed);
+    finished.forEach(LogFile::close);
+
+    return logFile;
+  }
+
+  private void release(Iterable<Map.Entry<Path, LogFile>> closed) {
+    for (var entry : closed) {
+      entry.getValue().close();
+
+      CompletableFuture<Void> reservation;
+      synchronized (this) {
+        reservation = busy.remove(entry.getKey());
+      }
+
+      reservation.complete(null);
+    }
+  }
+
+  private synchronized void remove(Path path, LogFile logFile) {
+    logFiles.remove(path, logFile);
+  }
+
+  private List<LogFile> removeClosing() {
+    List<LogFile> finished = new ArrayList<>(0);
+
+    if (logFiles.size() + closing.size() > capacity) {
+      finished.addAll(closing);
+      closing.clear();
+    }
+
+    return finished;
+  }
+
+  private void reserve(Iterable<Map.Entry<Path, LogFile>> closed) {
+    for (var entry : closed) busy.put(entry.getKey(), new CompletableFuture<>());
+  }
+
+  private void write(Path path, LogFile logFile, Predicate<? super LogFile> writer) {
+    var current = Optional.of(logFile);
+
+    while (current.isPresent() && !writer.test(current.get())) {
+      remove(path, current.get());
+      current = get(path);
+    }
+  }
+
+  private static final class LruMap extends LinkedHashMap<Path, LogFile> {
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+    private final transient Collection<Map.Entry<Path, LogFile>> evicted;
+
+    private LruMap(int capacity, Collection<Map.Entry<Path, LogFile>> evicted) {
+      super(16, 0.75F, true);
+      this.capacity = capacity;
+      this.evicted = evicted;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Path, LogFile> eldest) {
+      var remove = size() > capacity;
+      if (remove)
+        evicted.add(new AbstractMap.SimpleImmutableEntry<>(eldest.getKey(), eldest.getValue()));
+
+      return remove;
+    }
+  }
+}
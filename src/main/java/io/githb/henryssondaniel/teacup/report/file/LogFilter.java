@@ -0,0 +1,147 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.regex.Pattern;
+
+class LogFilter {
+  private static final int MESSAGES = 256;
+
+  private final int capacity;
+  private final boolean enabled;
+  private final Level level;
+  private final Map<Pattern, Level> levels;
+  private final int limit;
+  private final Predicate<? super Node> registered;
+  private final Map<Node, State> states = new ConcurrentHashMap<>(16);
+
+  LogFilter(Level level, Map<Pattern, Level> levels, int limit, int capacity) {
+    this(level, levels, limit, capacity, node -> true);
+  }
+
+  LogFilter(
+      Level level,
+      Map<Pattern, Level> levels,
+      int limit,
+      int capacity,
+      Predicate<? super Node> registered) {
+    this.capacity = capacity;
+    enabled = level.intValue() != Level.ALL.intValue() || !levels.isEmpty() || limit > 0;
+    this.level = level;
+    this.levels = levels;
+    this.limit = limit;
+    this.registered = registered;
+  }
+
+  boolean accept(Node node, LogRecord logRecord) {
+    var accept = true;
+
+    if (enabled) {
+      var state = node == null ? null : states.computeIfAbsent(node, this::createState);
+      accept =
+          state == null
+              ? logRecord.getLevel().intValue() >= level.intValue()
+              : state.accept(logRecord);
+    }
+
+    return accept;
+  }
+
+  void clear() {
+    states.clear();
+  }
+
+  List<LogRecord> end(Node node, boolean failed) {
+    var state = enabled ? states.remove(node) : null;
+    return state == null ? Collections.emptyList() : state.end(failed);
+  }
+
+  private State createState(Node node) {
+    State state = null;
+
+    if (registered.test(node)) {
+      var name = node.getName();
+
+      state =
+          new State(
+              levels.entrySet().stream()
+                  .filter(entry -> entry.getKey().matcher(name).matches())
+                  .map(Map.Entry::getValue)
+                  .findFirst()
+                  .orElse(level)
+                  .intValue());
+    }
+
+    return state;
+  }
+
+  private final class State {
+    private final Map<String, Integer> counts = new HashMap<>(16);
+    private final Queue<LogRecord> suppressed = new ArrayDeque<>(0);
+    private final int threshold;
+
+    private long filtered;
+    private int other;
+
+    private State(int threshold) {
+      this.threshold = threshold;
+    }
+
+    private synchronized boolean accept(LogRecord logRecord) {
+      var accept = logRecord.getLevel().intValue() >= threshold;
+
+      if (!accept) suppress(logRecord);
+      else if (limit > 0) accept = count(logRecord.getMessage()) <= limit;
+
+      return accept;
+    }
+
+    private int count(String message) {
+      return counts.size() < MESSAGES || counts.containsKey(message)
+          ? counts.merge(message, 1, Integer::sum)
+          : ++other;
+    }
+
+    private synchronized List<LogRecord> end(boolean failed) {
+      List<LogRecord> logRecords = new ArrayList<>(0);
+
+      counts.forEach(
+          (message, count) -> {
+            if (count > limit)
+              logRecords.add(new LogRecord(Level.INFO, Messages.sampled(count - limit, message)));
+          });
+
+      if (other > limit)
+        logRecords.add(new LogRecord(Level.INFO, Messages.sampled(other - limit)));
+
+      if (failed && !suppressed.isEmpty()) {
+        logRecords.add(new LogRecord(Level.INFO, Messages.suppressed(suppressed.size())));
+        logRecords.addAll(suppressed);
+        filtered -= suppressed.size();
+      }
+
+      if (filtered > 0L) logRecords.add(new LogRecord(Level.INFO, Messages.filtered(filtered)));
+
+      return logRecords;
+    }
+
+    private void suppress(LogRecord logRecord) {
+      filtered++;
+
+      if (capacity > 0) {
+        if (suppressed.size() == capacity) suppressed.remove();
+        suppressed.add(logRecord);
+      }
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+final class Messages {
+  static final String STARTED = "Started";
+
+  private Messages() {}
+
+  static String dropped(long dropped) {
+    return dropped + " logs were dropped.";
+  }
+
+  static String filtered(long filtered) {
+    return filtered + " logs were filtered out.";
+  }
+
+  static String finished(Object status, long duration, String throwable) {
+    return "Finished with status: " + status + " after " + duration + " ms." + throwable;
+  }
+
+  static String recorded(int dropped) {
+    return dropped + " earlier logs did not fit into the flight recorder.";
+  }
+
+  static String sampled(long dropped) {
+    return dropped + " more logs with other messages were dropped.";
+  }
+
+  static String sampled(long dropped, String message) {
+    return dropped + " more logs with the same message were dropped: " + message;
+  }
+
+  static String skipped(String reason) {
+    return "Skipped with reason: " + reason;
+  }
+
+  static String summary(long aborted, long failed, long skipped, long successful) {
+    return (aborted + failed + skipped + successful)
+        + " tests executed, "
+        + aborted
+        + " aborted, "
+        + skipped
+        + " skipper, "
+        + failed
+        + " failed";
+  }
+
+  static String suppressed(int suppressed) {
+    return "The last " + suppressed + " logs that were filtered out:";
+  }
+}
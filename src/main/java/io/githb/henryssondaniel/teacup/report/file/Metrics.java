@@ -0,0 +1,181 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+class Metrics implements MetricsMXBean {
+  private static final String FILE = ".metrics";
+  private static final AtomicLong IDS = new AtomicLong();
+  private static final Logger LOGGER = Logger.getLogger(Metrics.class.getName());
+
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder failedWrites = new LongAdder();
+  private final Histogram finished = new Histogram();
+  private final Histogram log = new Histogram();
+  private final Map<Path, LongAdder> nodes = new ConcurrentHashMap<>(16);
+  private final LongAdder openedFiles = new LongAdder();
+  private final LongAdder records = new LongAdder();
+  private final Histogram started = new Histogram();
+
+  private ObjectName objectName;
+
+  @Override
+  public long getBytes() {
+    return bytes.sum();
+  }
+
+  @Override
+  public long getFailedWrites() {
+    return failedWrites.sum();
+  }
+
+  @Override
+  public Latency getFinishedLatency() {
+    return new Latency(finished);
+  }
+
+  @Override
+  public Latency getLogLatency() {
+    return new Latency(log);
+  }
+
+  @Override
+  public long getOpenedFiles() {
+    return openedFiles.sum();
+  }
+
+  @Override
+  public long getRecords() {
+    return records.sum();
+  }
+
+  @Override
+  public long getRecords(String node) {
+    return nodes.entrySet().stream()
+        .filter(entry -> entry.getKey().getParent().endsWith(node))
+        .mapToLong(entry -> entry.getValue().sum())
+        .sum();
+  }
+
+  @Override
+  public Latency getStartedLatency() {
+    return new Latency(started);
+  }
+
+  void addBytes(long length) {
+    bytes.add(length);
+  }
+
+  void addFailedWrite() {
+    failedWrites.increment();
+  }
+
+  void addOpenedFile() {
+    openedFiles.increment();
+  }
+
+  void addRecord() {
+    records.increment();
+  }
+
+  void addRecord(Path log) {
+    records.increment();
+    nodes.computeIfAbsent(log, key -> new LongAdder()).increment();
+  }
+
+  void finished(long nanos) {
+    finished.record(nanos);
+  }
+
+  void log(long nanos) {
+    log.record(nanos);
+  }
+
+  synchronized void register(String name) {
+    try {
+      objectName =
+          new ObjectName(
+              "io.githb.henryssondaniel.teacup.report.file:type=DefaultReporter,name="
+                  + ObjectName.quote(name)
+                  + ",id="
+                  + IDS.incrementAndGet());
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    } catch (JMException e) {
+      LOGGER.log(Level.WARNING, "The metrics could not be registered.", e);
+      objectName = null;
+    }
+  }
+
+  void reset() {
+    bytes.reset();
+    failedWrites.reset();
+    finished.reset();
+    log.reset();
+    nodes.clear();
+    openedFiles.reset();
+    records.reset();
+    started.reset();
+  }
+
+  void started(long nanos) {
+    started.record(nanos);
+  }
+
+  synchronized void unregister() {
+    if (objectName != null) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+      } catch (JMException e) {
+        LOGGER.log(Level.WARNING, "The metrics could not be unregistered.", e);
+      }
+
+      objectName = null;
+    }
+  }
+
+  void write(Path root, long dropped) {
+    var stringBuilder = new StringBuilder(256);
+
+    append(stringBuilder, "bytes", getBytes());
+    append(stringBuilder, "dropped", dropped);
+    append(stringBuilder, "failedWrites", getFailedWrites());
+    append(stringBuilder, "finished", getFinishedLatency());
+    append(stringBuilder, "log", getLogLatency());
+    append(stringBuilder, "openedFiles", getOpenedFiles());
+    append(stringBuilder, "records", getRecords());
+    append(stringBuilder, "started", getStartedLatency());
+
+    nodes.entrySet().stream()
+        .map(
+            entry ->
+                "records."
+                    + root.relativize(entry.getKey().getParent())
+                    + '='
+                    + entry.getValue().sum()
+                    + System.lineSeparator())
+        .sorted()
+        .forEach(stringBuilder::append);
+
+    var path = root.resolve(FILE);
+
+    try {
+      Files.writeString(path, stringBuilder);
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The metrics %s could not be written.", path), e);
+    }
+  }
+
+  private static void append(StringBuilder stringBuilder, String key, Object value) {
+    stringBuilder.append(key).append('=').append(value).append(System.lineSeparator());
+  }
+}
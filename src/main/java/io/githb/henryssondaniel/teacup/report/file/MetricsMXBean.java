@@ -0,0 +1,77 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+/**
+ * Metrics about the cost of the {@link DefaultReporter}. The reporter registers them with the
+ * platform MBean server while it runs.
+ *
+ * @since 1.0
+ */
+public interface MetricsMXBean {
+  /**
+   * Returns the number of bytes written to the log files.
+   *
+   * @return the number of bytes
+   * @since 1.0
+   */
+  long getBytes();
+
+  /**
+   * Returns the number of writes to the log files that failed.
+   *
+   * @return the number of failed writes
+   * @since 1.0
+   */
+  long getFailedWrites();
+
+  /**
+   * Returns the latency of finished.
+   *
+   * @return the latency
+   * @since 1.0
+   */
+  Latency getFinishedLatency();
+
+  /**
+   * Returns the latency of log.
+   *
+   * @return the latency
+   * @since 1.0
+   */
+  Latency getLogLatency();
+
+  /**
+   * Returns the number of log files that have been opened.
+   *
+   * @return the number of opened log files
+   * @since 1.0
+   */
+  long getOpenedFiles();
+
+  /**
+   * Returns the number of records logged.
+   *
+   * @return the number of records
+   * @since 1.0
+   */
+  long getRecords();
+
+  /**
+   * Returns the number of records logged for the nodes whose folders end with the given path. A
+   * folder is not always named exactly after its node: characters that are not allowed in file
+   * names are replaced and a suffix such as {@code ~2} is added when siblings share a name.
+   *
+   * @param node the folder of the node, optionally with the folders of its parents, relative to the
+   *     folder of the execution and separated by {@code /}, for example {@code parent/child~2}
+   * @return the number of records
+   * @since 1.0
+   */
+  long getRecords(String node);
+
+  /**
+   * Returns the latency of started.
+   *
+   * @return the latency
+   * @since 1.0
+   */
+  Latency getStartedLatency();
+}
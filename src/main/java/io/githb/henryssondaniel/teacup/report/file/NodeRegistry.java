@@ -0,0 +1,97 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+class NodeRegistry {
+  private static final int CHUNK = 1024;
+
+  private volatile Snapshot snapshot = new Snapshot();
+
+  synchronized void clear() {
+    snapshot = new Snapshot();
+  }
+
+  Path get(Node node) {
+    var current = snapshot;
+    var id = current.ids.get(node);
+
+    return id == null ? null : current.getSlots(id).get(id % CHUNK);
+  }
+
+  Map<Node, Path> getPaths() {
+    var current = snapshot;
+    Map<Node, Path> paths = new IdentityHashMap<>(current.ids.size());
+
+    current.ids.forEach(
+        (node, id) -> {
+          var path = current.getSlots(id).get(id % CHUNK);
+          if (path != null) paths.put(node, path);
+        });
+
+    return paths;
+  }
+
+  boolean putIfAbsent(Node node, Path path) {
+    var current = snapshot;
+    var id = current.ids.get(node);
+
+    return id != null && current.getSlots(id).compareAndSet(id % CHUNK, null, path);
+  }
+
+  /**
+   * Registers the nodes and all their children. This is called for every call to initialized,
+   * which can happen again while the tests of earlier nodes run. The slots of the earlier nodes are
+   * shared with the new snapshot instead of copied, so a claim or removal that runs meanwhile is
+   * never lost.
+   *
+   * @param nodes the nodes
+   */
+  synchronized void register(Collection<? extends Node> nodes) {
+    List<Node> tree = new ArrayList<>(nodes);
+    for (var i = 0; i < tree.size(); i++) tree.addAll(tree.get(i).getNodes());
+
+    var current = snapshot;
+    Map<Node, Integer> ids = new IdentityHashMap<>(current.ids.size() + tree.size());
+    ids.putAll(current.ids);
+
+    for (var node : tree) ids.putIfAbsent(node, ids.size());
+
+    List<AtomicReferenceArray<Path>> chunks = new ArrayList<>(current.chunks);
+    while (chunks.size() * CHUNK < ids.size()) chunks.add(new AtomicReferenceArray<>(CHUNK));
+
+    snapshot = new Snapshot(ids, chunks);
+  }
+
+  Path remove(Node node) {
+    var current = snapshot;
+    var id = current.ids.get(node);
+
+    return id == null ? null : current.getSlots(id).getAndSet(id % CHUNK, null);
+  }
+
+  private static final class Snapshot {
+    private final List<AtomicReferenceArray<Path>> chunks;
+    private final Map<Node, Integer> ids;
+
+    private Snapshot() {
+      this(Collections.emptyMap(), Collections.emptyList());
+    }
+
+    private Snapshot(Map<Node, Integer> ids, List<AtomicReferenceArray<Path>> chunks) {
+      this.chunks = chunks;
+      this.ids = ids;
+    }
+
+    private AtomicReferenceArray<Path> getSlots(int id) {
+      return chunks.get(id / CHUNK);
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+class RecordFormatter {
+  private static final int BYTES = 1024;
+  private static final int CHARS = 256;
+  private static final DateTimeFormatter DATE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.");
+  private static final Formatter FORMATTER = new SimpleFormatter();
+  private static final int MAXIMUM = 65_536;
+  private static final ThreadLocal<RecordFormatter> RECORD_FORMATTERS =
+      ThreadLocal.withInitial(RecordFormatter::new);
+
+  private final CharsetEncoder charsetEncoder =
+      StandardCharsets.UTF_8
+          .newEncoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private final StringBuilder prefix = new StringBuilder(24);
+  private final ZoneId zoneId = ZoneId.systemDefault();
+
+  private StringBuilder builder = new StringBuilder(CHARS);
+  private ByteBuffer byteBuffer = ByteBuffer.allocate(BYTES);
+  private CharBuffer charBuffer = CharBuffer.allocate(CHARS);
+  private long second = Long.MIN_VALUE;
+
+  static void appendString(CharSequence text, StringBuilder stringBuilder) {
+    if (text == null) stringBuilder.append("null");
+    else {
+      stringBuilder.append('"');
+
+      for (var index = 0; index < text.length(); index++) {
+        var character = text.charAt(index);
+
+        if (character == '"' || character == '\\') stringBuilder.append('\\').append(character);
+        else if (character == '\n') stringBuilder.append("\\n");
+        else if (character == '\r') stringBuilder.append("\\r");
+        else if (character == '\t') stringBuilder.append("\\t");
+        else if (character < ' ')
+          stringBuilder
+              .append("\\u00")
+              .append(Character.forDigit(character >> 4, 16))
+              .append(Character.forDigit(character & 15, 16));
+        else stringBuilder.append(character);
+      }
+
+      stringBuilder.append('"');
+    }
+  }
+
+  static ByteBuffer encode(CharSequence text) {
+    return RECORD_FORMATTERS.get().encodeText(text);
+  }
+
+  static ByteBuffer encode(LogRecord logRecord) {
+    return encode(logRecord, Format.TEXT, null);
+  }
+
+  static ByteBuffer encode(LogRecord logRecord, Format format, String node) {
+    var recordFormatter = RECORD_FORMATTERS.get();
+
+    var stringBuilder = recordFormatter.builder;
+    stringBuilder.setLength(0);
+    recordFormatter.append(logRecord, format, node, stringBuilder);
+
+    var encoded = recordFormatter.encodeText(stringBuilder);
+    if (stringBuilder.capacity() > MAXIMUM) recordFormatter.builder = new StringBuilder(CHARS);
+
+    return encoded;
+  }
+
+  static void format(LogRecord logRecord, StringBuilder stringBuilder) {
+    format(logRecord, Format.TEXT, null, stringBuilder);
+  }
+
+  static void format(LogRecord logRecord, Format format, String node, StringBuilder stringBuilder) {
+    RECORD_FORMATTERS.get().append(logRecord, format, node, stringBuilder);
+  }
+
+  static String formatMessage(LogRecord logRecord) {
+    return isPlain(logRecord) ? logRecord.getMessage() : FORMATTER.formatMessage(logRecord);
+  }
+
+  static String stackTrace(Throwable throwable) {
+    var stringWriter = new StringWriter();
+    throwable.printStackTrace(new PrintWriter(stringWriter));
+
+    return stringWriter.toString();
+  }
+
+  private static void appendJson(LogRecord logRecord, String node, StringBuilder stringBuilder) {
+    var event = logRecord instanceof Event ? (Event) logRecord : null;
+
+    stringBuilder.append("{\"instant\":\"");
+    DateTimeFormatter.ISO_INSTANT.formatTo(logRecord.getInstant(), stringBuilder);
+    stringBuilder.append("\",\"level\":");
+    appendString(logRecord.getLevel().getName(), stringBuilder);
+    stringBuilder.append(",\"event\":");
+    appendString(event == null ? "log" : event.getType(), stringBuilder);
+
+    if (node != null) {
+      stringBuilder.append(",\"node\":");
+      appendString(node, stringBuilder);
+    }
+
+    stringBuilder.append(",\"message\":");
+    appendString(formatMessage(logRecord), stringBuilder);
+
+    if (event != null && event.getStatus() != null) {
+      stringBuilder.append(",\"status\":");
+      appendString(event.getStatus(), stringBuilder);
+    }
+
+    if (event != null && event.getDuration() >= 0L)
+      stringBuilder.append(",\"duration\":").append(event.getDuration());
+
+    var thrown = logRecord.getThrown();
+    if (thrown != null) {
+      stringBuilder.append(",\"thrown\":");
+      appendString(stackTrace(thrown), stringBuilder);
+    } else if (logRecord instanceof TracedRecord) {
+      stringBuilder.append(",\"thrown\":");
+      appendString(((TracedRecord) logRecord).getTrace(), stringBuilder);
+    } else if (event != null && event.getThrowable() != null) {
+      stringBuilder.append(",\"thrown\":");
+      appendString(event.getThrowable(), stringBuilder);
+    }
+
+    stringBuilder.append('}').append('\n');
+  }
+
+  private static boolean isPlain(LogRecord logRecord) {
+    return logRecord.getResourceBundle() == null
+        && (logRecord.getParameters() == null || logRecord.getParameters().length == 0);
+  }
+
+  private void append(
+      LogRecord logRecord, Format format, String node, StringBuilder stringBuilder) {
+    if (format == Format.JSON) appendJson(logRecord, node, stringBuilder);
+    else append(logRecord, stringBuilder);
+  }
+
+  private void append(LogRecord logRecord, StringBuilder stringBuilder) {
+    var millis = logRecord.getInstant().toEpochMilli();
+    var currentSecond = Math.floorDiv(millis, 1000L);
+
+    if (currentSecond != second) {
+      prefix.setLength(0);
+      DATE_TIME_FORMATTER.formatTo(
+          LocalDateTime.ofInstant(Instant.ofEpochSecond(currentSecond), zoneId), prefix);
+      second = currentSecond;
+    }
+
+    var milli = (int) Math.floorMod(millis, 1000L);
+    stringBuilder
+        .append(prefix)
+        .append((char) ('0' + milli / 100))
+        .append((char) ('0' + milli / 10 % 10))
+        .append((char) ('0' + milli % 10))
+        .append(' ')
+        .append(logRecord.getLevel().getName())
+        .append(": ");
+
+    if (isPlain(logRecord)) stringBuilder.append(logRecord.getMessage());
+    else stringBuilder.append(FORMATTER.formatMessage(logRecord));
+
+    stringBuilder.append(System.lineSeparator());
+
+    var thrown = logRecord.getThrown();
+    if (thrown != null) stringBuilder.append(stackTrace(thrown));
+    else if (logRecord instanceof TracedRecord)
+      stringBuilder.append(((TracedRecord) logRecord).getTrace());
+  }
+
+  private ByteBuffer encodeText(CharSequence text) {
+    if (byteBuffer.capacity() > MAXIMUM) byteBuffer = ByteBuffer.allocate(BYTES);
+
+    var length = text.length();
+    if (charBuffer.capacity() < length)
+      charBuffer = CharBuffer.allocate(Math.max(length, charBuffer.capacity() * 2));
+
+    if (text instanceof String) ((String) text).getChars(0, length, charBuffer.array(), 0);
+    else if (text instanceof StringBuilder)
+      ((StringBuilder) text).getChars(0, length, charBuffer.array(), 0);
+    else for (var index = 0; index < length; index++) charBuffer.put(index, text.charAt(index));
+    charBuffer.clear().limit(length);
+
+    byteBuffer.clear();
+    charsetEncoder.reset();
+
+    var coderResult = charsetEncoder.encode(charBuffer, byteBuffer, true);
+    if (coderResult == CoderResult.UNDERFLOW) coderResult = charsetEncoder.flush(byteBuffer);
+
+    while (coderResult.isOverflow()) {
+      byteBuffer = ByteBuffer.allocate(byteBuffer.capacity() * 2);
+      charBuffer.rewind();
+      charsetEncoder.reset();
+
+      coderResult = charsetEncoder.encode(charBuffer, byteBuffer, true);
+      if (coderResult == CoderResult.UNDERFLOW) coderResult = charsetEncoder.flush(byteBuffer);
+    }
+
+    if (charBuffer.capacity() > MAXIMUM) charBuffer = CharBuffer.allocate(CHARS);
+
+    return byteBuffer.flip();
+  }
+}
@@ -0,0 +1,209 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The results of one execution, read from the index that the {@link DefaultReporter} writes into
+ * the folder of the execution when it terminates. The results are sorted by node so that a node can
+ * be looked up without reading the log files.
+ *
+ * @since 1.0
+ */
+public final class ResultIndex {
+  /**
+   * The name of the index file in the folder of the execution.
+   *
+   * @since 1.0
+   */
+  public static final String FILE = ".index";
+
+  private final byte[] bytes;
+  private final int count;
+  private final int records;
+
+  private ResultIndex(byte[] bytes) throws IOException {
+    var byteBuffer = ByteBuffer.wrap(bytes);
+
+    if (bytes.length < 3 * Integer.BYTES
+        || byteBuffer.getInt() != ResultIndexWriter.MAGIC
+        || byteBuffer.getInt() != ResultIndexWriter.VERSION) throw new IOException("Not an index.");
+
+    this.bytes = bytes;
+    count = byteBuffer.getInt();
+    records = 3 * Integer.BYTES + count * Integer.BYTES;
+  }
+
+  /**
+   * Reads the index in the folder of an execution.
+   *
+   * @param directory the folder of the execution
+   * @return the index
+   * @throws IOException if the index could not be read
+   * @since 1.0
+   */
+  public static ResultIndex read(Path directory) throws IOException {
+    return new ResultIndex(Files.readAllBytes(directory.resolve(FILE)));
+  }
+
+  /**
+   * Returns the result of the node with the given path relative to the folder of the execution.
+   *
+   * @param node the node
+   * @return the result
+   * @since 1.0
+   */
+  public Optional<Entry> get(String node) {
+    var low = 0;
+    var high = count;
+
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+
+      if (getEntry(middle).getNode().compareTo(node) < 0) low = middle + 1;
+      else high = middle;
+    }
+
+    return Optional.of(low)
+        .filter(index -> index < count)
+        .map(this::getEntry)
+        .filter(entry -> entry.getNode().equals(node));
+  }
+
+  /**
+   * Returns all results, sorted by node.
+   *
+   * @return the results
+   * @since 1.0
+   */
+  public List<Entry> getEntries() {
+    List<Entry> entries = new ArrayList<>(count);
+    for (var i = 0; i < count; i++) entries.add(getEntry(i));
+
+    return entries;
+  }
+
+  /**
+   * Returns the results with the given status, for example FAILED, sorted by node.
+   *
+   * @param status the status
+   * @return the results
+   * @since 1.0
+   */
+  public List<Entry> getEntries(String status) {
+    List<Entry> entries = new ArrayList<>(0);
+
+    for (var i = 0; i < count; i++) {
+      var entry = getEntry(i);
+      if (entry.getStatus().equals(status)) entries.add(entry);
+    }
+
+    return entries;
+  }
+
+  /**
+   * Returns the number of results.
+   *
+   * @return the number of results
+   * @since 1.0
+   */
+  public int size() {
+    return count;
+  }
+
+  private Entry getEntry(int index) {
+    var offset = ByteBuffer.wrap(bytes).getInt(3 * Integer.BYTES + index * Integer.BYTES);
+
+    try (var dataInputStream =
+        new DataInputStream(
+            new ByteArrayInputStream(bytes, records + offset, bytes.length - records - offset))) {
+      return new Entry(
+          dataInputStream.readUTF(),
+          dataInputStream.readUTF(),
+          dataInputStream.readLong(),
+          dataInputStream.readLong(),
+          dataInputStream.readUTF());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The result of one node.
+   *
+   * @since 1.0
+   */
+  public static final class Entry {
+    private final long duration;
+    private final String node;
+    private final long size;
+    private final String status;
+    private final String throwable;
+
+    Entry(String node, String status, long duration, long size, String throwable) {
+      this.duration = duration;
+      this.node = node;
+      this.size = size;
+      this.status = status;
+      this.throwable = throwable;
+    }
+
+    /**
+     * Returns the duration in milliseconds.
+     *
+     * @return the duration
+     * @since 1.0
+     */
+    public long getDuration() {
+      return duration;
+    }
+
+    /**
+     * Returns the path of the node relative to the folder of the execution.
+     *
+     * @return the node
+     * @since 1.0
+     */
+    public String getNode() {
+      return node;
+    }
+
+    /**
+     * Returns the size in bytes of the log file of the node, or -1 if the node has no log file.
+     *
+     * @return the size
+     * @since 1.0
+     */
+    public long getSize() {
+      return size;
+    }
+
+    /**
+     * Returns the status: ABORTED, FAILED, SKIPPED or SUCCESSFUL.
+     *
+     * @return the status
+     * @since 1.0
+     */
+    public String getStatus() {
+      return status;
+    }
+
+    /**
+     * Returns the class of the throwable that the node finished with, if any.
+     *
+     * @return the class of the throwable
+     * @since 1.0
+     */
+    public Optional<String> getThrowable() {
+      return Optional.of(throwable).filter(text -> !text.isEmpty());
+    }
+  }
+}
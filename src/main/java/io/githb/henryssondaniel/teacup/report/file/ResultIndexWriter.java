@@ -0,0 +1,122 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+class ResultIndexWriter {
+  static final int MAGIC = 0x54434958;
+  static final int VERSION = 1;
+
+  private static final Logger LOGGER = Logger.getLogger(ResultIndexWriter.class.getName());
+  private static final String SKIPPED = "SKIPPED";
+
+  private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+  void add(String name, Path log) {
+    add(name, SKIPPED, 0L, "", log);
+  }
+
+  void add(String name, String status, long duration, String throwable, Path log) {
+    pending.add(new Pending(log, name, status, duration, throwable));
+  }
+
+  void clear() {
+    pending.clear();
+  }
+
+  List<ResultIndex.Entry> write(Path file) {
+    List<ResultIndex.Entry> entries = new ArrayList<>(pending.size());
+    for (var entry : pending) entries.add(entry.resolve(file.getParent()));
+
+    write(file, entries);
+
+    pending.clear();
+
+    return entries;
+  }
+
+  static void write(Path file, List<ResultIndex.Entry> entries) {
+    entries.sort(Comparator.comparing(ResultIndex.Entry::getNode));
+
+    try (var dataOutputStream =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      var records = new ByteArrayOutputStream(64 * entries.size() + 16);
+      var offsets = writeRecords(entries, new DataOutputStream(records));
+
+      dataOutputStream.writeInt(MAGIC);
+      dataOutputStream.writeInt(VERSION);
+      dataOutputStream.writeInt(offsets.length);
+
+      for (var offset : offsets) dataOutputStream.writeInt(offset);
+
+      records.writeTo(dataOutputStream);
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The index %s could not be written.", file), e);
+    }
+  }
+
+  private static long getSize(Path log) {
+    var size = -1L;
+
+    if (log != null)
+      try {
+        size = Files.size(log);
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, String.format("The size of %s could not be read.", log), e);
+      }
+
+    return size;
+  }
+
+  private static int[] writeRecords(
+      List<ResultIndex.Entry> entries, DataOutputStream dataOutputStream) throws IOException {
+    var offsets = new int[entries.size()];
+
+    for (var i = 0; i < offsets.length; i++) {
+      offsets[i] = dataOutputStream.size();
+
+      var entry = entries.get(i);
+      dataOutputStream.writeUTF(entry.getNode());
+      dataOutputStream.writeUTF(entry.getStatus());
+      dataOutputStream.writeLong(entry.getDuration());
+      dataOutputStream.writeLong(entry.getSize());
+      dataOutputStream.writeUTF(entry.getThrowable().orElse(""));
+    }
+
+    return offsets;
+  }
+
+  private static final class Pending {
+    private final long duration;
+    private final Path log;
+    private final String name;
+    private final String status;
+    private final String throwable;
+
+    private Pending(Path log, String name, String status, long duration, String throwable) {
+      this.duration = duration;
+      this.log = log;
+      this.name = name;
+      this.status = status;
+      this.throwable = throwable;
+    }
+
+    private ResultIndex.Entry resolve(Path root) {
+      var node = FolderNames.getNode(root, log);
+
+      return new ResultIndex.Entry(
+          node == null ? name : node, status, duration, getSize(log), throwable);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+class Retention implements Runnable {
+  private static final Logger LOGGER = Logger.getLogger(Retention.class.getName());
+  private static final long MINIMUM = Duration.ofMinutes(1L).toMillis();
+
+  private final Duration age;
+  private final Path current;
+  private final int runs;
+  private final long size;
+
+  Retention(Duration age, Path current, int runs, long size) {
+    this.age = age;
+    this.current = current;
+    this.runs = runs;
+    this.size = size;
+  }
+
+  boolean isEnabled() {
+    return !age.isZero() || runs > 0 || size > 0L;
+  }
+
+  @Override
+  public void run() {
+    var root = current.toAbsolutePath().getParent();
+    var started = System.currentTimeMillis() - MINIMUM;
+
+    try (var stream = Files.list(root)) {
+      delete(
+          stream
+              .filter(this::isFinished)
+              .map(Run::new)
+              .filter(run -> run.modified < started)
+              .sorted(Comparator.comparingLong(Run::getModified).reversed())
+              .collect(Collectors.toList()));
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The directory %s could not be listed. No logs will be deleted.", root),
+          e);
+    }
+  }
+
+  void start() {
+    if (isEnabled()) {
+      var thread = new Thread(this, "teacup-report-file-retention");
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  private void delete(Iterable<Run> newestFirst) {
+    var kept = 1;
+    var limit = age.isZero() ? Long.MIN_VALUE : System.currentTimeMillis() - age.toMillis();
+    var total = 0L;
+
+    for (var run : newestFirst) {
+      var bytes = size > 0L ? run.getSize() : 0L;
+
+      if (runs > 0 && kept >= runs || size > 0L && total + bytes > size || run.modified < limit)
+        delete(run.path);
+      else {
+        kept++;
+        total += bytes;
+      }
+    }
+  }
+
+  private boolean isFinished(Path run) {
+    return !run.getFileName().equals(current.getFileName())
+        && Files.isDirectory(run)
+        && !isActive(run);
+  }
+
+  private static void delete(Path path) {
+    try (var stream = Files.walk(path)) {
+      for (var file : stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList()))
+        Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, String.format("The logs %s could not be deleted.", path), e);
+    }
+  }
+
+  private static long getFileSize(Path path) {
+    var bytes = 0L;
+
+    try {
+      bytes = Files.size(path);
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, String.format("The size of %s could not be read.", path), e);
+    }
+
+    return bytes;
+  }
+
+  private static boolean isActive(Path run) {
+    var active = SharedRun.isActive(run);
+
+    if (!active)
+      try (var stream = Files.list(run)) {
+        active = stream.filter(Files::isDirectory).anyMatch(SharedRun::isActive);
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, String.format("The directory %s could not be listed.", run), e);
+        active = true;
+      }
+
+    return active;
+  }
+
+  private static final class Run {
+    private final long modified;
+    private final Path path;
+
+    private Run(Path path) {
+      this.path = path;
+
+      long time;
+
+      try {
+        time = Files.getLastModifiedTime(path).toMillis();
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, String.format("The time of %s could not be read.", path), e);
+        time = 0L;
+      }
+
+      modified = time;
+    }
+
+    private long getModified() {
+      return modified;
+    }
+
+    private long getSize() {
+      var bytes = 0L;
+
+      try (var stream = Files.walk(path)) {
+        bytes = stream.filter(Files::isRegularFile).mapToLong(Retention::getFileSize).sum();
+      } catch (IOException e) {
+        LOGGER.log(Level.FINE, String.format("The size of %s could not be read.", path), e);
+      }
+
+      return bytes;
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+/**
+ * The results of earlier executions, read from the history that the {@link DefaultReporter} appends
+ * to when it terminates. The node, status and duration of every result are saved in separate
+ * columns, so that a question only reads the columns and the executions it needs.
+ *
+ * @since 1.0
+ */
+public final class RunHistory {
+  private static final int ABORTED = HistoryWriter.STATUSES.indexOf("ABORTED");
+  private static final int FAILED = HistoryWriter.STATUSES.indexOf("FAILED");
+  private static final int SKIPPED = HistoryWriter.STATUSES.indexOf("SKIPPED");
+
+  private final Map<String, Integer> dictionary;
+  private final Path folder;
+  private final String[] nodes;
+  private final ByteBuffer runs;
+  private final int size;
+
+  private RunHistory(Path folder) throws IOException {
+    runs = map(folder.resolve(HistoryWriter.RUNS), 0L, -1L);
+
+    if (runs.capacity() < HistoryWriter.HEADER
+        || runs.getInt(0) != HistoryWriter.MAGIC
+        || runs.getInt(Integer.BYTES) != HistoryWriter.VERSION)
+      throw new IOException("Not a history.");
+
+    this.folder = folder;
+    size = (runs.capacity() - HistoryWriter.HEADER) / HistoryWriter.RUN;
+    dictionary =
+        HistoryWriter.readDictionary(
+            folder.resolve(HistoryWriter.DICTIONARY),
+            getEnd(size - 1, HistoryWriter.DICTIONARY_END));
+
+    nodes = new String[dictionary.size()];
+    dictionary.forEach((node, id) -> nodes[id] = node);
+  }
+
+  /**
+   * Reads the history in a folder.
+   *
+   * @param folder the folder of the history
+   * @return the history
+   * @throws IOException if the history could not be read
+   * @since 1.0
+   */
+  public static RunHistory read(Path folder) throws IOException {
+    return new RunHistory(folder);
+  }
+
+  /**
+   * Returns a percentile of the durations of a node in the latest executions, leaving out the
+   * executions where it was skipped.
+   *
+   * @param node the path of the node relative to the folder of the execution
+   * @param executions the number of latest executions to look at
+   * @param percentile the percentile between 0 and 100, for example 95
+   * @return the duration in milliseconds, or empty if the node did not run
+   * @throws IOException if the history could not be read
+   * @since 1.0
+   */
+  public OptionalLong getDuration(String node, int executions, double percentile)
+      throws IOException {
+    var id = dictionary.get(node);
+    var durations = new long[16];
+    var count = 0;
+
+    if (id != null) {
+      var scan = new Scan(executions, true);
+
+      for (var row = 0L; row < scan.rows; row++) {
+        var current = HistoryWriter.getVarint(scan.nodes);
+        var status = scan.statuses.get();
+        var duration = HistoryWriter.getVarint(scan.durations);
+
+        if (current == id && status != SKIPPED) {
+          if (count == durations.length) durations = Arrays.copyOf(durations, count * 2);
+          durations[count++] = duration;
+        }
+      }
+    }
+
+    var result = OptionalLong.empty();
+
+    if (count > 0) {
+      Arrays.sort(durations, 0, count);
+
+      var rank = (int) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count);
+      result = OptionalLong.of(durations[Math.max(0, rank - 1)]);
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the nodes that changed most often between passing and failing in the latest executions,
+   * the flakiest first.
+   *
+   * @param executions the number of latest executions to look at
+   * @param limit the maximum number of nodes
+   * @return the nodes
+   * @throws IOException if the history could not be read
+   * @since 1.0
+   */
+  public List<Flakiness> getFlakiest(int executions, int limit) throws IOException {
+    var failures = new int[nodes.length];
+    var flips = new int[nodes.length];
+    var last = new byte[nodes.length];
+    var observations = new int[nodes.length];
+
+    var scan = new Scan(executions, false);
+
+    for (var row = 0L; row < scan.rows; row++) {
+      var id = (int) HistoryWriter.getVarint(scan.nodes);
+      var status = scan.statuses.get();
+
+      if (status != SKIPPED) {
+        var failure = status == ABORTED || status == FAILED;
+        var current = (byte) (failure ? 2 : 1);
+
+        if (failure) failures[id]++;
+        if (last[id] != 0 && last[id] != current) flips[id]++;
+
+        last[id] = current;
+        observations[id]++;
+      }
+    }
+
+    List<Flakiness> flakiest = new ArrayList<>(0);
+    for (var id = 0; id < nodes.length; id++)
+      if (flips[id] > 0)
+        flakiest.add(new Flakiness(nodes[id], observations[id], failures[id], flips[id]));
+
+    return flakiest.stream()
+        .sorted(
+            Comparator.comparingDouble(Flakiness::getRate)
+                .reversed()
+                .thenComparing(Comparator.comparingInt(Flakiness::getFailures).reversed())
+                .thenComparing(Flakiness::getNode))
+        .limit(Math.max(0, limit))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the number of executions in the history.
+   *
+   * @return the number of executions
+   * @since 1.0
+   */
+  public int size() {
+    return size;
+  }
+
+  private long getEnd(int run, int column) {
+    return run < 0
+        ? 0L
+        : runs.getLong(HistoryWriter.HEADER + run * HistoryWriter.RUN + column * Long.BYTES);
+  }
+
+  private static ByteBuffer map(Path file, long start, long end) throws IOException {
+    ByteBuffer byteBuffer;
+
+    if (end == start) byteBuffer = ByteBuffer.allocate(0);
+    else
+      try (var fileChannel = FileChannel.open(file)) {
+        var length = end < 0L ? fileChannel.size() : end - start;
+        byteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, length);
+      }
+
+    return byteBuffer;
+  }
+
+  /**
+   * How often a node changed between passing and failing.
+   *
+   * @since 1.0
+   */
+  public static final class Flakiness {
+    private final int failures;
+    private final int flips;
+    private final String node;
+    private final int runs;
+
+    private Flakiness(String node, int runs, int failures, int flips) {
+      this.failures = failures;
+      this.flips = flips;
+      this.node = node;
+      this.runs = runs;
+    }
+
+    /**
+     * Returns the number of executions where the node failed or was aborted.
+     *
+     * @return the number of failures
+     * @since 1.0
+     */
+    public int getFailures() {
+      return failures;
+    }
+
+    /**
+     * Returns the number of times the node changed between passing and failing.
+     *
+     * @return the number of changes
+     * @since 1.0
+     */
+    public int getFlips() {
+      return flips;
+    }
+
+    /**
+     * Returns the path of the node relative to the folder of the execution.
+     *
+     * @return the node
+     * @since 1.0
+     */
+    public String getNode() {
+      return node;
+    }
+
+    /**
+     * Returns the number of changes divided by the number of times the node could have changed.
+     *
+     * @return the rate between 0 and 1
+     * @since 1.0
+     */
+    public double getRate() {
+      return runs > 1 ? (double) flips / (runs - 1) : 0.0;
+    }
+
+    /**
+     * Returns the number of executions where the node was not skipped.
+     *
+     * @return the number of executions
+     * @since 1.0
+     */
+    public int getRuns() {
+      return runs;
+    }
+  }
+
+  private final class Scan {
+    private final ByteBuffer durations;
+    private final ByteBuffer nodes;
+    private final long rows;
+    private final ByteBuffer statuses;
+
+    private Scan(int executions, boolean duration) throws IOException {
+      var first = Math.max(0, size - Math.max(0, executions)) - 1;
+      var last = size - 1;
+
+      var row = getEnd(first, HistoryWriter.ROW_END);
+      rows = getEnd(last, HistoryWriter.ROW_END) - row;
+
+      nodes =
+          map(
+              folder.resolve(HistoryWriter.NODE),
+              getEnd(first, HistoryWriter.NODE_END),
+              getEnd(last, HistoryWriter.NODE_END));
+      statuses =
+          map(folder.resolve(HistoryWriter.STATUS), row, getEnd(last, HistoryWriter.ROW_END));
+      durations =
+          duration
+              ? map(
+                  folder.resolve(HistoryWriter.DURATION),
+                  getEnd(first, HistoryWriter.DURATION_END),
+                  getEnd(last, HistoryWriter.DURATION_END))
+              : null;
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+class SharedRun {
+  static final String ACTIVE = ".active";
+
+  private static final String APPENDED = ".appended";
+  private static final Logger LOGGER = Logger.getLogger(SharedRun.class.getName());
+  private static final long PID = ProcessHandle.current().pid();
+
+  private final Codec codec;
+  private final Format format;
+  private final Path history;
+  private final String logName;
+  private final Path root;
+
+  SharedRun(Path root, Codec codec, Format format, String logName) {
+    this(root, codec, format, logName, null);
+  }
+
+  SharedRun(Path root, Codec codec, Format format, String logName, Path history) {
+    this.codec = codec;
+    this.format = format;
+    this.history = history;
+    this.logName = logName;
+    this.root = root;
+  }
+
+  Path getRoot() {
+    return root;
+  }
+
+  void leave(Path fork) {
+    deactivate(fork);
+
+    list().filter(forks -> forks.stream().noneMatch(SharedRun::isActive)).ifPresent(this::merge);
+  }
+
+  static void activate(Path folder) {
+    var active = folder.resolve(ACTIVE);
+
+    try {
+      Files.writeString(active, String.valueOf(PID));
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format(
+              "The file %s could not be created. The run might be removed before it is finished.",
+              active),
+          e);
+    }
+  }
+
+  static void deactivate(Path folder) {
+    var active = folder.resolve(ACTIVE);
+
+    try {
+      Files.deleteIfExists(active);
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The file %s could not be deleted.", active), e);
+    }
+  }
+
+  static boolean isActive(Path folder) {
+    var active = folder.resolve(ACTIVE);
+    var running = Files.exists(active);
+
+    if (running)
+      try {
+        running =
+            ProcessHandle.of(Long.parseLong(Files.readString(active).trim()))
+                .map(ProcessHandle::isAlive)
+                .orElse(false);
+      } catch (IOException | NumberFormatException e) {
+        LOGGER.log(Level.FINE, String.format("The file %s could not be read.", active), e);
+      }
+
+    return running;
+  }
+
+  private boolean claim() {
+    var appended = root.resolve(APPENDED);
+    var claimed = false;
+
+    try {
+      Files.createFile(appended);
+      claimed = true;
+    } catch (FileAlreadyExistsException e) {
+      LOGGER.log(Level.FINE, "The history has already been appended.", e);
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The file %s could not be created. The run will be missing.", appended),
+          e);
+    }
+
+    return claimed;
+  }
+
+  private Optional<List<Path>> list() {
+    List<Path> forks = null;
+
+    try (var stream = Files.list(root)) {
+      forks = stream.filter(Files::isDirectory).collect(Collectors.toList());
+    } catch (IOException e) {
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The directory %s could not be listed. The run will not be merged.", root),
+          e);
+    }
+
+    return Optional.ofNullable(forks);
+  }
+
+  private void merge(Iterable<Path> forks) {
+    List<ResultIndex.Entry> entries = new ArrayList<>(0);
+    List<ResultIndex.Entry> results = new ArrayList<>(0);
+
+    for (var fork : forks) {
+      var read = read(fork);
+
+      results.addAll(read);
+      entries.addAll(prefix(fork, read));
+    }
+
+    var aborted = 0L;
+    var failed = 0L;
+    var skipped = 0L;
+    var successful = 0L;
+
+    for (var entry : entries)
+      switch (entry.getStatus()) {
+        case "ABORTED":
+          aborted++;
+          break;
+        case "FAILED":
+          failed++;
+          break;
+        case "SKIPPED":
+          skipped++;
+          break;
+        default:
+          successful++;
+      }
+
+    replace(ResultIndex.FILE, file -> ResultIndexWriter.write(file, entries));
+
+    var summary = Messages.summary(aborted, failed, skipped, successful);
+    replace(logName, file -> writeSummary(file, summary));
+
+    if (history != null && claim())
+      HistoryWriter.append(history, System.currentTimeMillis(), results);
+  }
+
+  private void replace(String name, Consumer<? super Path> writer) {
+    var file = root.resolve(name);
+    var temporary = root.resolve(name + '.' + PID + ".tmp");
+
+    try {
+      Files.deleteIfExists(temporary);
+      writer.accept(temporary);
+      Files.move(
+          temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The file %s could not be written.", file), e);
+    }
+  }
+
+  private void writeSummary(Path file, String summary) {
+    try {
+      var logFile = new LogFile(file, 0, codec, 0L, new Metrics(), Durability.NONE, format, null);
+      logFile.write(new Event(Event.TERMINATED, summary));
+      logFile.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, String.format("The file %s could not be written.", file), e);
+    }
+  }
+
+  private static Collection<ResultIndex.Entry> prefix(
+      Path fork, Collection<ResultIndex.Entry> entries) {
+    var prefix = fork.getFileName() + "/";
+
+    return entries.stream()
+        .map(
+            entry ->
+                new ResultIndex.Entry(
+                    prefix + entry.getNode(),
+                    entry.getStatus(),
+                    entry.getDuration(),
+                    entry.getSize(),
+                    entry.getThrowable().orElse("")))
+        .collect(Collectors.toList());
+  }
+
+  private static Collection<ResultIndex.Entry> read(Path fork) {
+    Collection<ResultIndex.Entry> entries = Collections.emptyList();
+
+    if (Files.exists(fork.resolve(ResultIndex.FILE)))
+      try {
+        entries = ResultIndex.read(fork).getEntries();
+      } catch (IOException e) {
+        LOGGER.log(
+            Level.WARNING,
+            String.format("The index in %s could not be read. It will not be merged.", fork),
+            e);
+      }
+
+    return entries;
+  }
+}
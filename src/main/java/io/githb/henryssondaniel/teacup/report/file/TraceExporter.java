@@ -0,0 +1,130 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Copies the folder of an execution, replacing the references to the stack traces that the {@link
+ * DefaultReporter} saved only once with the stack traces themselves.
+ *
+ * @since 1.0
+ */
+public final class TraceExporter {
+  private static final Pattern FINGERPRINT = Pattern.compile("[0-9a-f]{" + Traces.LENGTH + '}');
+  private static final Pattern LOG = Pattern.compile("\\.(log|jsonl)(\\.\\d+)?");
+  private static final Logger LOGGER = Logger.getLogger(TraceExporter.class.getName());
+  private static final String THROWN = "\"thrown\":\"" + Traces.PREFIX;
+
+  private final Path source;
+  private final Map<String, String> traces = new HashMap<>(16);
+
+  private TraceExporter(Path source) {
+    this.source = source;
+  }
+
+  /**
+   * Copies the folder of an execution into the directory with the stack traces inline. The
+   * directory is created if it does not exist. Compressed log files are copied as they are.
+   *
+   * @param source the folder of the execution
+   * @param directory the directory
+   * @throws IOException if the folder could not be read or the directory could not be written
+   * @since 1.0
+   */
+  public static void export(Path source, Path directory) throws IOException {
+    var traceExporter = new TraceExporter(source);
+    var traces = source.resolve(Traces.FOLDER);
+
+    try (var stream = Files.walk(source)) {
+      for (var path :
+          stream.filter(path -> !path.startsWith(traces)).collect(Collectors.toList())) {
+        var target = directory.resolve(source.relativize(path).toString());
+
+        if (Files.isDirectory(path)) Files.createDirectories(target);
+        else if (LOG.matcher(path.getFileName().toString()).matches())
+          traceExporter.expand(path, target);
+        else Files.copy(path, target);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Copies the folder of an execution given as the first argument into the directory given as the
+   * second argument with the stack traces inline.
+   *
+   * @param args the folder of the execution and the directory
+   * @throws IOException if the folder could not be read or the directory could not be written
+   * @since 1.0
+   */
+  public static void main(String... args) throws IOException {
+    if (args.length == 2) export(Path.of(args[0]), Path.of(args[1]));
+    else LOGGER.log(Level.SEVERE, "Usage: TraceExporter <folder> <directory>");
+  }
+
+  private void expand(Path log, Path target) throws IOException {
+    var json = log.getFileName().toString().startsWith(".jsonl");
+
+    try (var bufferedReader = Files.newBufferedReader(log);
+        var bufferedWriter = Files.newBufferedWriter(target)) {
+      for (var line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine())
+        if (json) bufferedWriter.write(expandJson(line) + '\n');
+        else bufferedWriter.write(expandText(line));
+    }
+  }
+
+  private String expandJson(String line) throws IOException {
+    var start = line.lastIndexOf(THROWN);
+    var expanded = line;
+
+    if (start >= 0) {
+      var trace = getTrace(line, start + THROWN.length());
+
+      if (trace != null) {
+        var stringBuilder = new StringBuilder(line.length() + trace.length());
+        stringBuilder.append(line, 0, start).append("\"thrown\":");
+        RecordFormatter.appendString(trace, stringBuilder);
+        expanded = stringBuilder.append('}').toString();
+      }
+    }
+
+    return expanded;
+  }
+
+  private String expandText(String line) throws IOException {
+    String trace = null;
+    if (line.startsWith(Traces.PREFIX)) trace = getTrace(line, Traces.PREFIX.length());
+
+    return trace == null ? line + System.lineSeparator() : trace;
+  }
+
+  private String getTrace(String line, int start) throws IOException {
+    var fingerprint =
+        line.length() >= start + Traces.LENGTH ? line.substring(start, start + Traces.LENGTH) : "";
+    String trace = null;
+
+    if (FINGERPRINT.matcher(fingerprint).matches()) {
+      trace = traces.get(fingerprint);
+
+      if (trace == null)
+        try {
+          trace = Files.readString(source.resolve(Traces.FOLDER).resolve(fingerprint));
+          traces.put(fingerprint, trace);
+        } catch (NoSuchFileException e) {
+          LOGGER.log(Level.WARNING, String.format("The trace %s does not exist.", fingerprint), e);
+        }
+    }
+
+    return trace;
+  }
+}
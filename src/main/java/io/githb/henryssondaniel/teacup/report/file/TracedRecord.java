@@ -0,0 +1,34 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.util.logging.LogRecord;
+
+class TracedRecord extends LogRecord {
+  private static final long serialVersionUID = 1L;
+
+  private final transient Throwable throwable;
+  private final transient Traces traces;
+
+  private String trace;
+
+  TracedRecord(LogRecord logRecord, Traces traces) {
+    super(logRecord.getLevel(), logRecord.getMessage());
+
+    setInstant(logRecord.getInstant());
+    setLoggerName(logRecord.getLoggerName());
+    setParameters(logRecord.getParameters());
+    setResourceBundle(logRecord.getResourceBundle());
+    setResourceBundleName(logRecord.getResourceBundleName());
+    setSequenceNumber(logRecord.getSequenceNumber());
+    setSourceClassName(logRecord.getSourceClassName());
+    setSourceMethodName(logRecord.getSourceMethodName());
+
+    throwable = logRecord.getThrown();
+    this.traces = traces;
+  }
+
+  synchronized String getTrace() {
+    if (trace == null) trace = traces.getReference(throwable);
+
+    return trace;
+  }
+}
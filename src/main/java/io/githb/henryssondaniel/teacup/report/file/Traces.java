@@ -0,0 +1,94 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+class Traces {
+  static final String FOLDER = ".traces";
+  static final int LENGTH = 32;
+  static final String PREFIX = "~trace:";
+
+  private static final Logger LOGGER = Logger.getLogger(Traces.class.getName());
+  private static final ThreadLocal<MessageDigest> MESSAGE_DIGESTS =
+      ThreadLocal.withInitial(Traces::createMessageDigest);
+
+  private final Path folder;
+  private final Map<String, Boolean> stored = new ConcurrentHashMap<>(16);
+
+  Traces(Path folder) {
+    this.folder = folder;
+  }
+
+  void clear() {
+    stored.clear();
+  }
+
+  String getReference(Throwable throwable) {
+    var text = RecordFormatter.stackTrace(throwable);
+    var fingerprint = fingerprint(text);
+
+    return stored.computeIfAbsent(fingerprint, key -> write(key, text))
+        ? reference(fingerprint, throwable)
+        : text;
+  }
+
+  private boolean write(String fingerprint, String text) {
+    var file = folder.resolve(fingerprint);
+    IOException exception = null;
+
+    try {
+      Files.createDirectories(folder);
+      Files.writeString(file, text, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    } catch (FileAlreadyExistsException e) {
+      if (!Files.isRegularFile(file)) exception = e;
+    } catch (IOException e) {
+      exception = e;
+    }
+
+    if (exception != null)
+      LOGGER.log(
+          Level.SEVERE,
+          String.format("The trace %s could not be written. It will be saved inline.", file),
+          exception);
+
+    return exception == null;
+  }
+
+  private static MessageDigest createMessageDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String fingerprint(String text) {
+    var digest = MESSAGE_DIGESTS.get().digest(text.getBytes(StandardCharsets.UTF_8));
+    var stringBuilder = new StringBuilder(LENGTH);
+
+    for (var index = 0; index < LENGTH / 2; index++)
+      stringBuilder
+          .append(Character.forDigit(digest[index] >> 4 & 15, 16))
+          .append(Character.forDigit(digest[index] & 15, 16));
+
+    return stringBuilder.toString();
+  }
+
+  private static String reference(String fingerprint, Throwable throwable) {
+    var summary = String.valueOf(throwable);
+    var end = summary.indexOf('\n');
+    if (end >= 0) summary = summary.substring(0, end).stripTrailing();
+
+    return PREFIX + fingerprint + ' ' + summary + System.lineSeparator();
+  }
+}
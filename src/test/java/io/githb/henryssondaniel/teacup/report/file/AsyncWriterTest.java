@@ -0,0 +1,152 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncWriterTest {
+  private static final String FIRST = "first";
+  private static final String LOG = "log";
+  private static final String SECOND = "second";
+
+  private final LogFileCache logFileCache = new LogFileCache(2);
+
+  @Test
+  void close(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var asyncWriter = new AsyncWriter(Backpressure.BLOCK, 1, 2, logFileCache);
+    asyncWriter.start();
+    asyncWriter.write(path, new LogRecord(Level.INFO, FIRST));
+    asyncWriter.close(path);
+    asyncWriter.write(path, new LogRecord(Level.INFO, SECOND));
+    asyncWriter.close();
+
+    assertThat(Files.readString(path)).contains(FIRST).contains(SECOND);
+    assertThat(asyncWriter.getDropped()).isZero();
+    assertThat(logFileCache.size()).isOne();
+  }
+
+  @Test
+  void write(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var asyncWriter = new AsyncWriter(Backpressure.BLOCK, 16, 4, logFileCache);
+    asyncWriter.start();
+    asyncWriter.write(path, new LogRecord(Level.INFO, FIRST));
+    asyncWriter.write(path, ByteBuffer.wrap(SECOND.getBytes(StandardCharsets.UTF_8)));
+    asyncWriter.close();
+
+    assertThat(Files.readString(path)).endsWith(FIRST + System.lineSeparator() + SECOND);
+  }
+
+  @Test
+  void writeWhenBlock(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var asyncWriter = new AsyncWriter(Backpressure.BLOCK, 16, 1, logFileCache);
+    asyncWriter.start();
+    for (var i = 0; i < 100; i++) asyncWriter.write(path, new LogRecord(Level.INFO, FIRST + i));
+    asyncWriter.close();
+
+    assertThat(Files.readString(path)).contains(FIRST + 0).contains(FIRST + 99);
+    assertThat(asyncWriter.getDropped()).isZero();
+  }
+
+  @Test
+  void writeWhenDrop(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var asyncWriter = new AsyncWriter(Backpressure.DROP, 1, 1, logFileCache);
+    asyncWriter.write(path, new LogRecord(Level.INFO, FIRST));
+    asyncWriter.write(path, new LogRecord(Level.INFO, SECOND));
+    asyncWriter.start();
+    asyncWriter.close();
+
+    assertThat(Files.readString(path)).contains(FIRST).doesNotContain(SECOND);
+    assertThat(asyncWriter.getDropped()).isOne();
+  }
+
+  @Test
+  void writeWhenEvicted(@TempDir Path tempDir) throws IOException {
+    var asyncWriter = new AsyncWriter(Backpressure.BLOCK, 4, 64, 4, logFileCache);
+    asyncWriter.start();
+
+    for (var j = 0; j < 100; j++)
+      for (var i = 0; i < 32; i++)
+        asyncWriter.write(
+            tempDir.resolve(LOG + i), ByteBuffer.wrap((FIRST + j).getBytes(StandardCharsets.UTF_8)));
+
+    asyncWriter.close();
+    logFileCache.close();
+
+    for (var i = 0; i < 32; i++)
+      assertThat(Files.readString(tempDir.resolve(LOG + i)))
+          .isEqualTo(IntStream.range(0, 100).mapToObj(j -> FIRST + j).collect(Collectors.joining()));
+    assertThat(asyncWriter.getDropped()).isZero();
+  }
+
+  @Test
+  void writeWhenThreads(@TempDir Path tempDir) throws IOException {
+    var asyncWriter = new AsyncWriter(Backpressure.BLOCK, 16, 64, 4, logFileCache);
+    asyncWriter.start();
+
+    for (var i = 0; i < 8; i++) {
+      var path = tempDir.resolve(LOG + i);
+
+      for (var j = 0; j < 10; j++)
+        asyncWriter.write(path, ByteBuffer.wrap((FIRST + j).getBytes(StandardCharsets.UTF_8)));
+      asyncWriter.close(path);
+    }
+
+    asyncWriter.close();
+
+    for (var i = 0; i < 8; i++)
+      assertThat(Files.readString(tempDir.resolve(LOG + i)))
+          .isEqualTo(IntStream.range(0, 10).mapToObj(j -> FIRST + j).collect(Collectors.joining()));
+    assertThat(logFileCache.size()).isZero();
+  }
+
+  @Test
+  void writeWhenDropOldestClose(@TempDir Path tempDir) throws IOException {
+    var first = tempDir.resolve(FIRST);
+    var second = tempDir.resolve(SECOND);
+    logFileCache.get(first);
+
+    var asyncWriter = new AsyncWriter(Backpressure.DROP_OLDEST, 1, 2, logFileCache);
+    asyncWriter.close(first);
+    asyncWriter.write(first, new LogRecord(Level.INFO, FIRST));
+    asyncWriter.write(second, new LogRecord(Level.INFO, SECOND));
+    asyncWriter.start();
+    asyncWriter.close();
+
+    assertThat(Files.readString(first)).isEmpty();
+    assertThat(Files.readString(second)).contains(SECOND);
+    assertThat(asyncWriter.getDropped()).isOne();
+    assertThat(logFileCache.size()).isOne();
+  }
+
+  @Test
+  void writeWhenDropOldest(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var asyncWriter = new AsyncWriter(Backpressure.DROP_OLDEST, 1, 1, logFileCache);
+    asyncWriter.write(path, new LogRecord(Level.INFO, FIRST));
+    asyncWriter.write(path, new LogRecord(Level.INFO, SECOND));
+    asyncWriter.start();
+    asyncWriter.close();
+
+    assertThat(Files.readString(path)).doesNotContain(FIRST).contains(SECOND);
+    assertThat(asyncWriter.getDropped()).isOne();
+  }
+}
@@ -0,0 +1,316 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.logging.Level;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationTest {
+  private final Properties properties = new Properties();
+
+  @Test
+  void getAsyncBackpressure() {
+    properties.setProperty(Configuration.ASYNC_BACKPRESSURE, "drop_oldest");
+    assertThat(new Configuration(properties).getAsyncBackpressure())
+        .isSameAs(Backpressure.DROP_OLDEST);
+  }
+
+  @Test
+  void getAsyncBackpressureWhenInvalid() {
+    properties.setProperty(Configuration.ASYNC_BACKPRESSURE, "invalid");
+    assertThat(new Configuration(properties).getAsyncBackpressure()).isSameAs(Backpressure.BLOCK);
+  }
+
+  @Test
+  void getAsyncBatch() {
+    assertThat(new Configuration(properties).getAsyncBatch()).isEqualTo(512);
+  }
+
+  @Test
+  void getAsyncCapacity() {
+    assertThat(new Configuration(properties).getAsyncCapacity()).isEqualTo(8192);
+  }
+
+  @Test
+  void getAsyncThreads() {
+    properties.setProperty(Configuration.ASYNC_THREADS, "4");
+    assertThat(new Configuration(properties).getAsyncThreads()).isEqualTo(4);
+  }
+
+  @Test
+  void getAsyncThreadsWhenZero() {
+    properties.setProperty(Configuration.ASYNC_THREADS, "0");
+    assertThat(new Configuration(properties).getAsyncThreads()).isOne();
+  }
+
+  @Test
+  void getCodec() {
+    properties.setProperty(Configuration.COMPRESSION, "gzip");
+    assertThat(new Configuration(properties).getCodec()).contains(Compression.GZIP);
+  }
+
+  @Test
+  void getCodecWhenClass() {
+    properties.setProperty(Configuration.COMPRESSION, TestCodec.class.getName());
+    assertThat(new Configuration(properties).getCodec()).containsInstanceOf(TestCodec.class);
+  }
+
+  @Test
+  void getCodecWhenInvalid() {
+    properties.setProperty(Configuration.COMPRESSION, String.class.getName());
+    assertThat(new Configuration(properties).getCodec()).isEmpty();
+  }
+
+  @Test
+  void getCodecWhenNotSet() {
+    assertThat(new Configuration(properties).getCodec()).isEmpty();
+  }
+
+  @Test
+  void getDurability() {
+    properties.setProperty(Configuration.DURABILITY, "periodic");
+    assertThat(new Configuration(properties).getDurability()).isSameAs(Durability.PERIODIC);
+  }
+
+  @Test
+  void getDurabilityInterval() {
+    properties.setProperty(Configuration.DURABILITY_INTERVAL, "0");
+    assertThat(new Configuration(properties).getDurabilityInterval()).isOne();
+  }
+
+  @Test
+  void getDurabilityWhenNotSet() {
+    assertThat(new Configuration(properties).getDurability()).isSameAs(Durability.NONE);
+    assertThat(new Configuration(properties).getDurabilityInterval()).isEqualTo(1000L);
+  }
+
+  @Test
+  void getFlightCapacity() {
+    properties.setProperty(Configuration.FLIGHT_CAPACITY, "65536");
+    assertThat(new Configuration(properties).getFlightCapacity()).isEqualTo(65_536);
+  }
+
+  @Test
+  void getFormat() {
+    properties.setProperty(Configuration.FORMAT, "json");
+    assertThat(new Configuration(properties).getFormat()).isSameAs(Format.JSON);
+  }
+
+  @Test
+  void getFormatWhenNotSet() {
+    assertThat(new Configuration(properties).getFormat()).isSameAs(Format.TEXT);
+  }
+
+  @Test
+  void getHandles() {
+    properties.setProperty(Configuration.HANDLES, "2");
+    assertThat(new Configuration(properties).getHandles()).isEqualTo(2);
+  }
+
+  @Test
+  void getHandlesWhenInvalid() {
+    properties.setProperty(Configuration.HANDLES, "invalid");
+    assertThat(new Configuration(properties).getHandles()).isEqualTo(256);
+  }
+
+  @Test
+  void getHandlesWhenNotSet() {
+    assertThat(new Configuration(properties).getHandles()).isEqualTo(256);
+  }
+
+  @Test
+  void getHandlesWhenZero() {
+    properties.setProperty(Configuration.HANDLES, "0");
+    assertThat(new Configuration(properties).getHandles()).isOne();
+  }
+
+  @Test
+  void getLevel() {
+    properties.setProperty(Configuration.LEVEL, "fine");
+    assertThat(new Configuration(properties).getLevel()).isEqualTo(Level.FINE);
+  }
+
+  @Test
+  void getLevelWhenInvalid() {
+    properties.setProperty(Configuration.LEVEL, "invalid");
+    assertThat(new Configuration(properties).getLevel()).isEqualTo(Level.ALL);
+  }
+
+  @Test
+  void getLevels() {
+    properties.setProperty(Configuration.LEVEL + ".Slow.*", "FINEST");
+    properties.setProperty(Configuration.LEVEL + ".invalid", "invalid");
+
+    assertThat(new Configuration(properties).getLevels())
+        .hasSize(1)
+        .allSatisfy(
+            (pattern, level) -> {
+              assertThat(pattern.pattern()).isEqualTo("Slow.*");
+              assertThat(level).isEqualTo(Level.FINEST);
+            });
+  }
+
+  @Test
+  void getHistoryFolder() {
+    properties.setProperty(Configuration.HISTORY_FOLDER, "history");
+    assertThat(new Configuration(properties).getHistoryFolder()).isEqualTo(Path.of("history"));
+  }
+
+  @Test
+  void getHistoryFolderWhenDefault() {
+    assertThat(new Configuration(properties).getHistoryFolder())
+        .isEqualTo(Path.of(System.getProperty("user.home"), ".teacup", "history"));
+  }
+
+  @Test
+  void getLiveCapacity() {
+    assertThat(new Configuration(properties).getLiveCapacity()).isEqualTo(1024);
+  }
+
+  @Test
+  void getLivePort() {
+    properties.setProperty(Configuration.LIVE_PORT, "70000");
+    assertThat(new Configuration(properties).getLivePort()).isEqualTo(65_535);
+  }
+
+  @Test
+  void getMappedSegment() {
+    properties.setProperty(Configuration.MAPPED, "true");
+    properties.setProperty(Configuration.MAPPED_SEGMENT, "1");
+
+    assertThat(new Configuration(properties).getMappedSegment()).isEqualTo(4096);
+  }
+
+  @Test
+  void getMappedSegmentWhenNotMapped() {
+    properties.setProperty(Configuration.MAPPED_SEGMENT, "8192");
+    assertThat(new Configuration(properties).getMappedSegment()).isZero();
+  }
+
+  @Test
+  void getParallelism() {
+    properties.setProperty(Configuration.PARALLELISM, "-1");
+    assertThat(new Configuration(properties).getParallelism()).isOne();
+  }
+
+  @Test
+  void getParallelismWhenNotSet() {
+    assertThat(new Configuration(properties).getParallelism())
+        .isEqualTo(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  void getRetentionAge() {
+    properties.setProperty(Configuration.RETENTION_AGE, "7");
+    assertThat(new Configuration(properties).getRetentionAge()).isEqualTo(Duration.ofDays(7L));
+  }
+
+  @Test
+  void getRetentionRuns() {
+    assertThat(new Configuration(properties).getRetentionRuns()).isZero();
+  }
+
+  @Test
+  void getRetentionSize() {
+    properties.setProperty(Configuration.RETENTION_SIZE, "10000000000");
+    assertThat(new Configuration(properties).getRetentionSize()).isEqualTo(10_000_000_000L);
+  }
+
+  @Test
+  void getRotationSizeWhenInvalid() {
+    properties.setProperty(Configuration.ROTATION_SIZE, "invalid");
+    assertThat(new Configuration(properties).getRotationSize()).isZero();
+  }
+
+  @Test
+  void getRun() {
+    properties.setProperty(Configuration.RUN, " build-1 ");
+    assertThat(new Configuration(properties).getRun()).contains("build-1");
+  }
+
+  @Test
+  void getRunWhenBlank() {
+    properties.setProperty(Configuration.RUN, " ");
+    assertThat(new Configuration(properties).getRun()).isEmpty();
+  }
+
+  @Test
+  void getSamplingLimit() {
+    properties.setProperty(Configuration.SAMPLING_LIMIT, "10");
+    assertThat(new Configuration(properties).getSamplingLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void getSuppressedCapacity() {
+    assertThat(new Configuration(properties).getSuppressedCapacity()).isZero();
+  }
+
+  @Test
+  void isAsync() {
+    properties.setProperty(Configuration.ASYNC, "true");
+    assertThat(new Configuration(properties).isAsync()).isTrue();
+  }
+
+  @Test
+  void isAsyncWhenNotSet() {
+    assertThat(new Configuration(properties).isAsync()).isFalse();
+  }
+
+  @Test
+  void isFlightSkipped() {
+    properties.setProperty(Configuration.FLIGHT_SKIPPED, "true");
+    assertThat(new Configuration(properties).isFlightSkipped()).isTrue();
+  }
+
+  @Test
+  void isLazy() {
+    properties.setProperty(Configuration.LAZY, "true");
+    assertThat(new Configuration(properties).isLazy()).isTrue();
+  }
+
+  @Test
+  void isLazyWhenFlightRecorded() {
+    properties.setProperty(Configuration.FLIGHT_CAPACITY, "1");
+    assertThat(new Configuration(properties).isLazy()).isTrue();
+  }
+
+  @Test
+  void isHistory() {
+    properties.setProperty(Configuration.HISTORY, "true");
+    assertThat(new Configuration(properties).isHistory()).isTrue();
+  }
+
+  @Test
+  void isLive() {
+    properties.setProperty(Configuration.LIVE, "true");
+    assertThat(new Configuration(properties).isLive()).isTrue();
+  }
+
+  @Test
+  void isMapped() {
+    properties.setProperty(Configuration.MAPPED, "true");
+    assertThat(new Configuration(properties).isMapped()).isTrue();
+  }
+
+  @Test
+  void isTraces() {
+    properties.setProperty(Configuration.TRACES, "true");
+    assertThat(new Configuration(properties).isTraces()).isTrue();
+  }
+
+  public static final class TestCodec implements Codec {
+    @Override
+    public OutputStream compress(OutputStream outputStream) {
+      return outputStream;
+    }
+
+    @Override
+    public String getExtension() {
+      return ".test";
+    }
+  }
+}
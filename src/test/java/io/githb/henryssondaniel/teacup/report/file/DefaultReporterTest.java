@@ -10,28 +10,39 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import io.github.henryssondaniel.teacup.core.reporting.Reporter;
 import io.github.henryssondaniel.teacup.core.testing.Node;
 import io.github.henryssondaniel.teacup.core.testing.Result;
 import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 class DefaultReporterTest {
+  private static final String FAILED = "failed";
   private static final String FINISHED = "finished";
   private static final String INITIALIZED = "initialized";
   private static final String LOG = ".log";
@@ -81,6 +92,85 @@ class DefaultReporterTest {
     verify(result).getThrowable();
   }
 
+  @Test
+  void finishedWhenFiltered(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.LEVEL, "INFO");
+    properties.setProperty(Configuration.SUPPRESSED_CAPACITY, "1");
+
+    var folder = tempDir.resolve("filtered");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.log(new LogRecord(Level.FINE, TEST), node);
+    reporter.finished(node, result);
+    reporter.terminated();
+
+    assertThat(Files.readString(folder.resolve(NAME).resolve(LOG)))
+        .contains(Messages.suppressed(1), " FINE: " + TEST);
+  }
+
+  @Test
+  void finishedWhenFlightRecorded(@TempDir Path tempDir) throws IOException {
+    var failedNode = mock(Node.class);
+    when(failedNode.getName()).thenReturn(FAILED);
+
+    var failedResult = mock(Result.class);
+    when(failedResult.getStatus()).thenReturn(Status.FAILED);
+    when(failedResult.getThrowable()).thenReturn(Optional.empty());
+
+    when(result.getStatus()).thenReturn(Status.SUCCESSFUL);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.FLIGHT_CAPACITY, "4096");
+
+    var folder = tempDir.resolve("flight");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(List.of(node, failedNode));
+    reporter.started(node);
+    reporter.started(failedNode);
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+    reporter.log(new LogRecord(Level.INFO, TEST), failedNode);
+    reporter.finished(node, result);
+    reporter.finished(failedNode, failedResult);
+    reporter.terminated();
+
+    assertThat(folder.resolve(NAME)).doesNotExist();
+    assertThat(Files.readAllLines(folder.resolve(FAILED).resolve(LOG)))
+        .hasSize(3)
+        .anySatisfy(line -> assertThat(line).endsWith(" INFO: " + Messages.STARTED))
+        .anySatisfy(line -> assertThat(line).endsWith(" INFO: " + TEST));
+  }
+
+  @Test
+  void finishedWhenLive(@TempDir Path tempDir) throws IllegalAccessException, NoSuchFieldException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+
+    var liveTail = mock(LiveTail.class);
+    when(liveTail.isSubscribed()).thenReturn(true);
+
+    var reporter = new DefaultReporter(tempDir.resolve("finishedLive"));
+    reporter.initialize();
+
+    var field = DefaultReporter.class.getDeclaredField("liveTail");
+    field.setAccessible(true);
+    field.set(reporter, liveTail);
+
+    reporter.finished(node, result);
+
+    verify(liveTail).publish(any(), any(Event.class));
+    verify(node).getTimeFinished();
+    verify(node).getTimeStarted();
+    verify(result).getThrowable();
+  }
+
   @Test
   void finishedWhenNoHandler(@TempDir Path tempDir) {
     var file = tempDir.resolve("folder").toFile();
@@ -95,8 +185,11 @@ class DefaultReporterTest {
     reporter.finished(node, result);
 
     verify(result).getStatus();
-    verify(result, times(0)).getThrowable();
-    verifyNoInteractions(node);
+    verify(result).getThrowable();
+    verify(node).getName();
+    verify(node).getTimeFinished();
+    verify(node).getTimeStarted();
+    verifyNoMoreInteractions(node);
   }
 
   @Test
@@ -108,10 +201,30 @@ class DefaultReporterTest {
     verifyNoInteractions(node);
   }
 
+  @Test
+  void getMetrics(@TempDir Path tempDir) {
+    var reporter = new DefaultReporter(tempDir.resolve("metrics"));
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+
+    var metrics = reporter.getMetrics();
+
+    assertThat(metrics.getRecords(NAME)).isOne();
+    assertThat(metrics.getLogLatency().getCount()).isOne();
+    assertThat(metrics.getOpenedFiles()).isOne();
+
+    reporter.terminated();
+
+    assertThat(tempDir.resolve("metrics").resolve(".metrics")).exists();
+    assertThat(metrics.getRecords()).isZero();
+  }
+
   @Test
   void initializeWhenFileCanNotBeCreated() throws IOException {
     when(fileSystem.provider()).thenReturn(fileSystemProvider);
     when(path.resolve(LOG)).thenReturn(path);
+    when(path.resolve(SharedRun.ACTIVE)).thenReturn(path);
 
     try (var system = path.getFileSystem()) {
       when(system).thenReturn(fileSystem);
@@ -124,11 +237,15 @@ class DefaultReporterTest {
       when(byteChannel).thenThrow(ioException);
     }
 
+    try (var outputStream = fileSystemProvider.newOutputStream(same(path), any())) {
+      when(outputStream).thenThrow(ioException);
+    }
+
     new DefaultReporter(path).initialize();
 
     verify(fileSystemProvider).checkAccess(path);
     verify(fileSystemProvider).createDirectory(path);
-    verify(fileSystem, times(4)).provider();
+    verify(fileSystem, times(5)).provider();
     verify(path).resolve(LOG);
   }
 
@@ -169,6 +286,25 @@ class DefaultReporterTest {
     verify(node).getName();
   }
 
+  @Test
+  void initializedWhenDuplicateName(@TempDir Path tempDir) {
+    var child = mock(Node.class);
+    when(child.getName()).thenReturn(NAME);
+
+    var sibling = mock(Node.class);
+    when(sibling.getName()).thenReturn(NAME);
+    when(node.getNodes()).thenReturn(List.of(child, sibling));
+
+    var folder = tempDir.resolve(INITIALIZED);
+
+    Reporter reporter = new DefaultReporter(folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+
+    assertThat(folder.resolve(NAME).resolve(NAME).resolve(LOG)).exists();
+    assertThat(folder.resolve(NAME).resolve(NAME + "~2").resolve(LOG)).exists();
+  }
+
   @Test
   void initializedWhenFileCanNotBeCreated() throws IOException {
     when(fileSystem.provider()).thenReturn(fileSystemProvider);
@@ -185,13 +321,17 @@ class DefaultReporterTest {
       when(byteChannel).thenReturn(seekableByteChannel).thenThrow(ioException);
     }
 
+    try (var outputStream = fileSystemProvider.newOutputStream(same(path), any())) {
+      when(outputStream).thenThrow(ioException);
+    }
+
     Reporter reporter = new DefaultReporter(path);
     reporter.initialize();
     reporter.initialized(Collections.singletonList(node));
 
-    verify(fileSystemProvider, times(2)).checkAccess(path);
+    verify(fileSystemProvider).checkAccess(path);
     verify(fileSystemProvider, times(2)).createDirectory(path);
-    verify(fileSystem, times(8)).provider();
+    verify(fileSystem, times(7)).provider();
     verify(path, times(2)).resolve(LOG);
   }
 
@@ -209,9 +349,9 @@ class DefaultReporterTest {
   }
 
   @Test
-  void initializedWhenFolderCanNotBeCreated() throws IOException {
+  void initializedWhenFolderCanNotBeCreated()
+      throws IllegalAccessException, IOException, NoSuchFieldException {
     when(fileSystem.provider()).thenReturn(fileSystemProvider);
-    when(path.toAbsolutePath()).thenReturn(path);
     when(path.resolve(anyString())).thenReturn(path);
 
     try (var system = path.getFileSystem()) {
@@ -226,15 +366,44 @@ class DefaultReporterTest {
       when(byteChannel).thenReturn(seekableByteChannel);
     }
 
+    try (var outputStream = fileSystemProvider.newOutputStream(same(path), any())) {
+      when(outputStream).thenThrow(ioException);
+    }
+
     Reporter reporter = new DefaultReporter(path);
     reporter.initialize();
     reporter.initialized(Collections.singletonList(node));
 
-    verify(fileSystemProvider, times(2)).checkAccess(path);
+    verify(fileSystemProvider).checkAccess(path);
     verify(fileSystemProvider, times(2)).createDirectory(path);
-    verify(fileSystem, times(7)).provider();
-    verify(path).resolve(LOG);
-    verify(path).toAbsolutePath();
+    verify(fileSystem, times(6)).provider();
+    verify(path, times(2)).resolve(LOG);
+    verify(path, times(0)).toAbsolutePath();
+
+    assertThat(getMap(reporter)).isEmpty();
+  }
+
+  @Test
+  void initializedWhenLazy(@TempDir Path tempDir) {
+    var child = mock(Node.class);
+    when(child.getName()).thenReturn(TEST);
+    when(node.getNodes()).thenReturn(Collections.singletonList(child));
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.LAZY, "true");
+
+    var folder = tempDir.resolve("lazy");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+
+    assertThat(folder.toFile().list()).containsOnly(LOG, SharedRun.ACTIVE);
+
+    reporter.log(new LogRecord(Level.INFO, TEST), child);
+
+    assertThat(folder.toFile().list()).containsOnly(LOG, NAME, SharedRun.ACTIVE);
+    assertThat(folder.resolve(NAME).resolve(TEST).resolve(LOG)).exists();
   }
 
   @Test
@@ -253,10 +422,47 @@ class DefaultReporterTest {
     reporter.log(logRecord, node);
 
     verify(logRecord).getInstant();
-    verify(logRecord, times(4)).getLevel();
+    verify(logRecord).getLevel();
     verifyNoInteractions(node);
   }
 
+  @Test
+  void logWhenLive(@TempDir Path tempDir)
+      throws IllegalAccessException, InterruptedException, IOException, NoSuchFieldException {
+    var properties = new Properties();
+    properties.setProperty(Configuration.LIVE, "true");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), tempDir.resolve("live"));
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+
+    var field = DefaultReporter.class.getDeclaredField("liveTail");
+    field.setAccessible(true);
+
+    var liveTail = (LiveTail) field.get(reporter);
+    var address = liveTail.getAddress();
+
+    try (var socket = new Socket(address.getAddress(), address.getPort());
+        var bufferedReader =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+      socket
+          .getOutputStream()
+          .write(
+              ("GET " + LiveTail.PATH + "?node=" + NAME + " HTTP/1.1\r\n\r\n")
+                  .getBytes(StandardCharsets.US_ASCII));
+
+      while (!liveTail.isSubscribed()) Thread.sleep(10L);
+
+      reporter.log(new LogRecord(Level.INFO, TEST), node);
+      reporter.terminated();
+
+      assertThat(bufferedReader.lines())
+          .contains("event: log", "event: terminated")
+          .anySatisfy(line -> assertThat(line).contains("\"node\":\"" + NAME + '"'));
+    }
+  }
+
   @Test
   void logWhenNoRoot() {
     new DefaultReporter().log(logRecord, node);
@@ -271,7 +477,8 @@ class DefaultReporterTest {
     reporter.initialize();
     reporter.skipped(node, REASON);
 
-    verifyNoInteractions(node);
+    verify(node).getName();
+    verifyNoMoreInteractions(node);
   }
 
   @Test
@@ -304,6 +511,266 @@ class DefaultReporterTest {
     assertThat(getMap(reporter)).isEmpty();
   }
 
+  @Test
+  void terminatedWhenAsync(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.SUCCESSFUL);
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.ASYNC, "true");
+
+    var folder = tempDir.resolve("async");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+    reporter.log(new LogRecord(Level.INFO, TEST), mock(Node.class));
+    reporter.finished(node, result);
+    reporter.terminated();
+
+    assertThat(Files.readString(folder.resolve(NAME).resolve(LOG))).contains(TEST);
+    assertThat(Files.readAllLines(folder.resolve(LOG)))
+        .last()
+        .asString()
+        .endsWith("1 tests executed, 0 aborted, 0 skipper, 0 failed");
+  }
+
+  @Test
+  void terminatedWhenCompressed(@TempDir Path tempDir) throws IOException {
+    var properties = new Properties();
+    properties.setProperty(Configuration.COMPRESSION, "gzip");
+
+    var folder = tempDir.resolve("compressed");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+    reporter.terminated();
+
+    try (var inputStream =
+        new GZIPInputStream(Files.newInputStream(folder.resolve(NAME).resolve(LOG + ".gz")))) {
+      assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+          .endsWith(" INFO: " + TEST + System.lineSeparator());
+    }
+  }
+
+  @Test
+  void terminatedWhenDurable(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.SUCCESSFUL);
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.DURABILITY, "periodic");
+    properties.setProperty(Configuration.DURABILITY_INTERVAL, "1");
+
+    var folder = tempDir.resolve("durable");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+    reporter.finished(node, result);
+    reporter.terminated();
+
+    assertThat(Files.readString(folder.resolve(NAME).resolve(LOG))).contains(TEST);
+    assertThat(Files.readAllLines(folder.resolve(LOG)))
+        .last()
+        .asString()
+        .endsWith("1 tests executed, 0 aborted, 0 skipper, 0 failed");
+  }
+
+  @Test
+  void terminatedWhenHistory(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+
+    var history = tempDir.resolve("history");
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.HISTORY, "true");
+    properties.setProperty(Configuration.HISTORY_FOLDER, history.toString());
+
+    for (var run = 0; run < 2; run++) {
+      Reporter reporter =
+          new DefaultReporter(new Configuration(properties), tempDir.resolve(String.valueOf(run)));
+      reporter.initialize();
+      reporter.initialized(Collections.singletonList(node));
+      reporter.finished(node, result);
+      reporter.terminated();
+    }
+
+    var runHistory = RunHistory.read(history);
+
+    assertThat(runHistory.size()).isEqualTo(2);
+    assertThat(runHistory.getDuration(NAME, 2, 95.0)).hasValue(0L);
+  }
+
+  @Test
+  void terminatedWhenIndexed(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+
+    var folder = tempDir.resolve("indexed");
+
+    Reporter reporter = new DefaultReporter(folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.finished(node, result);
+    reporter.terminated();
+
+    assertThat(ResultIndex.read(folder).get(NAME))
+        .hasValueSatisfying(entry -> assertThat(entry.getStatus()).isEqualTo("FAILED"));
+  }
+
+  @Test
+  void terminatedWhenJson(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+    when(result.getThrowable()).thenReturn(Optional.of(new IOException(TEST)));
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.FORMAT, "json");
+    properties.setProperty(Configuration.ASYNC, "true");
+
+    var folder = tempDir.resolve("json");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.started(node);
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+    reporter.finished(node, result);
+    reporter.terminated();
+
+    assertThat(Files.readAllLines(folder.resolve(NAME).resolve(".jsonl")))
+        .hasSize(3)
+        .allSatisfy(line -> assertThat(line).startsWith("{\"instant\":\"").endsWith("}"))
+        .anySatisfy(line -> assertThat(line).contains("\"event\":\"started\",\"node\":\"name\""))
+        .anySatisfy(line -> assertThat(line).contains("\"event\":\"log\",\"node\":\"name\""))
+        .anySatisfy(
+            line ->
+                assertThat(line)
+                    .contains(
+                        "\"status\":\"FAILED\",\"duration\":0,\"thrown\":\"java.io.IOException: "
+                            + TEST
+                            + '"'));
+    assertThat(Files.readAllLines(folder.resolve(".jsonl")))
+        .last()
+        .asString()
+        .contains("\"event\":\"terminated\"");
+  }
+
+  @Test
+  void terminatedWhenMapped(@TempDir Path tempDir) throws IOException {
+    var properties = new Properties();
+    properties.setProperty(Configuration.MAPPED, "true");
+
+    var folder = tempDir.resolve("mapped");
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(Collections.singletonList(node));
+    reporter.log(new LogRecord(Level.INFO, TEST), node);
+    reporter.terminated();
+
+    assertThat(Files.readString(folder.resolve(NAME).resolve(LOG)))
+        .endsWith(" INFO: " + TEST + System.lineSeparator());
+    assertThat(Files.readString(folder.resolve(LOG)))
+        .endsWith(" 0 tests executed, 0 aborted, 0 skipper, 0 failed" + System.lineSeparator());
+  }
+
+  @Test
+  void terminatedWhenShared(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.RUN, "run");
+
+    var configuration = new Configuration(properties);
+    var folder = tempDir.resolve("run");
+
+    Reporter first = new DefaultReporter(configuration, folder.resolve("first"));
+    first.initialize();
+
+    Reporter second = new DefaultReporter(configuration, folder.resolve("second"));
+    second.initialize();
+    second.initialized(Collections.singletonList(node));
+    second.finished(node, result);
+
+    first.terminated();
+
+    assertThat(folder.resolve(ResultIndex.FILE)).doesNotExist();
+
+    second.terminated();
+
+    assertThat(ResultIndex.read(folder).get("second/" + NAME))
+        .hasValueSatisfying(entry -> assertThat(entry.getStatus()).isEqualTo("FAILED"));
+    assertThat(Files.readString(folder.resolve(LOG)))
+        .contains("1 tests executed, 0 aborted, 0 skipper, 1 failed");
+  }
+
+  @Test
+  void terminatedWhenSharedHistory(@TempDir Path tempDir) throws IOException {
+    when(result.getStatus()).thenReturn(Status.FAILED);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+
+    var history = tempDir.resolve("history");
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.HISTORY, "true");
+    properties.setProperty(Configuration.HISTORY_FOLDER, history.toString());
+    properties.setProperty(Configuration.RUN, "run");
+
+    var configuration = new Configuration(properties);
+    var folder = tempDir.resolve("run");
+
+    Reporter first = new DefaultReporter(configuration, folder.resolve("first"));
+    first.initialize();
+    first.initialized(Collections.singletonList(node));
+    first.finished(node, result);
+
+    Reporter second = new DefaultReporter(configuration, folder.resolve("second"));
+    second.initialize();
+
+    first.terminated();
+    second.terminated();
+
+    var runHistory = RunHistory.read(history);
+
+    assertThat(runHistory.size()).isOne();
+    assertThat(runHistory.getDuration(NAME, 1, 95.0)).hasValue(0L);
+  }
+
+  @Test
+  void terminatedWhenTraced(@TempDir Path tempDir) throws IOException {
+    var child = mock(Node.class);
+    when(child.getName()).thenReturn(TEST);
+
+    var properties = new Properties();
+    properties.setProperty(Configuration.TRACES, "true");
+
+    var folder = tempDir.resolve("traced");
+    var throwable = new IOException(TEST);
+
+    Reporter reporter = new DefaultReporter(new Configuration(properties), folder);
+    reporter.initialize();
+    reporter.initialized(List.of(node, child));
+
+    for (var current : List.of(node, child)) {
+      var record = new LogRecord(Level.SEVERE, TEST);
+      record.setThrown(throwable);
+      reporter.log(record, current);
+    }
+
+    reporter.terminated();
+
+    assertThat(Files.list(folder.resolve(Traces.FOLDER))).hasSize(1);
+    assertThat(Files.readString(folder.resolve(NAME).resolve(LOG)))
+        .contains(Traces.PREFIX)
+        .doesNotContain(RecordFormatter.stackTrace(throwable));
+    assertThat(Files.readString(folder.resolve(TEST).resolve(LOG))).contains(Traces.PREFIX);
+  }
+
   @Test
   void terminatedWhenNoRoot() throws IllegalAccessException, NoSuchFieldException {
     Reporter reporter = new DefaultReporter();
@@ -316,12 +783,11 @@ class DefaultReporterTest {
     assertThat(child.delete()).isTrue();
   }
 
-  @SuppressWarnings("unchecked")
   private static Map<Node, Path> getMap(Reporter reporter)
       throws IllegalAccessException, NoSuchFieldException {
-    var field = DefaultReporter.class.getDeclaredField("map");
+    var field = DefaultReporter.class.getDeclaredField("nodeRegistry");
     field.setAccessible(true);
 
-    return (Map<Node, Path>) field.get(reporter);
+    return ((NodeRegistry) field.get(reporter)).getPaths();
   }
 }
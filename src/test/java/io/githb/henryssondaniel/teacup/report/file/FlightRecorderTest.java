@@ -0,0 +1,121 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.Test;
+
+class FlightRecorderTest {
+  private static final Path LOG = Path.of("node", ".log");
+  private static final String MESSAGE = "message";
+
+  private final Node node = mock(Node.class);
+
+  @Test
+  void clear() {
+    var flightRecorder = new FlightRecorder(1024);
+    flightRecorder.record(node, LOG, createLogRecord(MESSAGE));
+    flightRecorder.clear();
+
+    assertThat(flightRecorder.end(node)).isEmpty();
+  }
+
+  @Test
+  void end() {
+    var flightRecorder = new FlightRecorder(1024);
+    flightRecorder.record(node, LOG, createLogRecord(MESSAGE));
+    flightRecorder.record(node, LOG, createLogRecord(MESSAGE + 1));
+
+    assertThat(flightRecorder.end(node).map(FlightRecorderTest::decode))
+        .contains(format(MESSAGE) + format(MESSAGE + 1));
+    assertThat(flightRecorder.end(node)).isEmpty();
+  }
+
+  @Test
+  void endWhenEvicted() {
+    var length = format(MESSAGE + 0).length();
+
+    var flightRecorder = new FlightRecorder(2 * length + 1);
+    for (var i = 0; i < 5; i++) flightRecorder.record(node, LOG, createLogRecord(MESSAGE + i));
+
+    assertThat(flightRecorder.end(node).map(FlightRecorderTest::decode))
+        .contains(
+            Messages.recorded(3)
+                + System.lineSeparator()
+                + format(MESSAGE + 3)
+                + format(MESSAGE + 4));
+  }
+
+  @Test
+  void endWhenGrown() {
+    var message = MESSAGE.repeat(500);
+
+    var flightRecorder = new FlightRecorder(65_536);
+    for (var i = 0; i < 3; i++) flightRecorder.record(node, LOG, createLogRecord(message));
+
+    assertThat(flightRecorder.end(node).map(FlightRecorderTest::decode))
+        .contains(format(message).repeat(3));
+  }
+
+  @Test
+  void endWhenJson() {
+    var root = Path.of("root");
+
+    var flightRecorder = new FlightRecorder(16, Format.JSON, root);
+    flightRecorder.record(node, root.resolve(LOG), createLogRecord(MESSAGE));
+    flightRecorder.record(node, root.resolve(LOG), createLogRecord(MESSAGE.repeat(10)));
+
+    assertThat(flightRecorder.end(node).map(FlightRecorderTest::decode))
+        .hasValueSatisfying(
+            text ->
+                assertThat(text)
+                    .startsWith("{\"instant\":\"")
+                    .endsWith(
+                        "\"level\":\"INFO\",\"event\":\"log\",\"node\":\"node\",\"message\":\"2"
+                            + " earlier logs did not fit into the flight recorder.\"}\n"));
+  }
+
+  @Test
+  void endWhenTooLarge() {
+    var flightRecorder = new FlightRecorder(16);
+    flightRecorder.record(node, LOG, createLogRecord(MESSAGE));
+
+    assertThat(flightRecorder.end(node).map(FlightRecorderTest::decode))
+        .contains(Messages.recorded(1) + System.lineSeparator());
+  }
+
+  @Test
+  void isEnabled() {
+    assertThat(new FlightRecorder(1).isEnabled()).isTrue();
+  }
+
+  @Test
+  void isEnabledWhenZero() {
+    assertThat(new FlightRecorder(0).isEnabled()).isFalse();
+  }
+
+  private static LogRecord createLogRecord(String message) {
+    var logRecord = new LogRecord(Level.INFO, message);
+    logRecord.setInstant(Instant.EPOCH);
+
+    return logRecord;
+  }
+
+  private static String decode(ByteBuffer byteBuffer) {
+    return StandardCharsets.UTF_8.decode(byteBuffer).toString();
+  }
+
+  private static String format(String message) {
+    var stringBuilder = new StringBuilder(64);
+    RecordFormatter.format(createLogRecord(message), stringBuilder);
+
+    return stringBuilder.toString();
+  }
+}
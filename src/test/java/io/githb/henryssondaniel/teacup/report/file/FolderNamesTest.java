@@ -0,0 +1,68 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FolderNamesTest {
+  private static final String NAME = "name";
+
+  private final FolderNames folderNames = new FolderNames();
+
+  @Test
+  void clear() {
+    folderNames.get(NAME);
+    folderNames.clear();
+
+    assertThat(folderNames.get(NAME)).isEqualTo(NAME);
+  }
+
+  @Test
+  void get() {
+    assertThat(folderNames.get(NAME)).isEqualTo(NAME);
+  }
+
+  @Test
+  void getWhenCollision() {
+    folderNames.get(NAME);
+
+    assertThat(folderNames.get(NAME)).isEqualTo(NAME + "~2");
+    assertThat(folderNames.get(NAME.toUpperCase())).isEqualTo("NAME~3");
+  }
+
+  @Test
+  void getWhenDots() {
+    assertThat(folderNames.get("..")).isEqualTo("__");
+    assertThat(folderNames.get(".log")).isEqualTo("_log");
+    assertThat(folderNames.get("name.")).isEqualTo("name_");
+  }
+
+  @Test
+  void getWhenEmpty() {
+    assertThat(folderNames.get("")).isEqualTo("_");
+  }
+
+  @Test
+  void getWhenInvalid() {
+    assertThat(folderNames.get("a/b\\c:d*e?f\"g<h>i|j\tk")).isEqualTo("a_b_c_d_e_f_g_h_i_j_k");
+  }
+
+  @Test
+  void getWhenLong() {
+    var name = "a".repeat(100);
+
+    assertThat(folderNames.get(name)).isEqualTo("a".repeat(64));
+    assertThat(folderNames.get(name + 'b')).isEqualTo("a".repeat(64) + "~2");
+  }
+
+  @Test
+  void getWhenNull() {
+    assertThat(folderNames.get(null)).isEqualTo("null");
+  }
+
+  @Test
+  void getWhenReserved() {
+    assertThat(folderNames.get("con")).isEqualTo("_con");
+    assertThat(folderNames.get("LPT1.txt")).isEqualTo("_LPT1.txt");
+  }
+}
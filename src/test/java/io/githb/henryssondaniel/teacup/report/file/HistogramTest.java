@@ -0,0 +1,58 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+  private final Histogram histogram = new Histogram();
+
+  @Test
+  void getCount() {
+    histogram.record(1L);
+    histogram.record(Long.MAX_VALUE);
+
+    assertThat(histogram.getCount()).isEqualTo(2L);
+  }
+
+  @Test
+  void getMax() {
+    histogram.record(5L);
+    histogram.record(3L);
+
+    assertThat(histogram.getMax()).isEqualTo(5L);
+  }
+
+  @Test
+  void getPercentile() {
+    for (var i = 1L; i <= 1000L; i++) histogram.record(i * 1000L);
+
+    assertThat(histogram.getPercentile(50.0)).isCloseTo(500_000L, within(500_000L / 16));
+    assertThat(histogram.getPercentile(99.0)).isCloseTo(990_000L, within(990_000L / 16));
+    assertThat(histogram.getPercentile(100.0)).isEqualTo(1_000_000L);
+  }
+
+  @Test
+  void getPercentileWhenEmpty() {
+    assertThat(histogram.getPercentile(99.0)).isZero();
+  }
+
+  @Test
+  void getPercentileWhenSmall() {
+    histogram.record(-1L);
+    histogram.record(7L);
+
+    assertThat(histogram.getPercentile(50.0)).isZero();
+    assertThat(histogram.getPercentile(100.0)).isEqualTo(7L);
+  }
+
+  @Test
+  void reset() {
+    histogram.record(1L);
+    histogram.reset();
+
+    assertThat(histogram.getCount()).isZero();
+    assertThat(histogram.getMax()).isZero();
+  }
+}
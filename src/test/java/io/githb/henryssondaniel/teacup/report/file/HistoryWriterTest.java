@@ -0,0 +1,61 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HistoryWriterTest {
+  private static final String NODE = "node";
+  private static final String SUCCESSFUL = "SUCCESSFUL";
+
+  @Test
+  void append(@TempDir Path tempDir) throws IOException {
+    HistoryWriter.append(
+        tempDir, 1L, List.of(new ResultIndex.Entry(NODE, SUCCESSFUL, 300L, 0L, "")));
+    HistoryWriter.append(tempDir, 2L, List.of(new ResultIndex.Entry(NODE, "FAILED", 1L, 0L, "")));
+
+    assertThat(Files.size(tempDir.resolve(HistoryWriter.RUNS)))
+        .isEqualTo(HistoryWriter.HEADER + 2L * HistoryWriter.RUN);
+    assertThat(Files.readAllBytes(tempDir.resolve(HistoryWriter.NODE))).containsExactly(0, 0);
+    assertThat(Files.readAllBytes(tempDir.resolve(HistoryWriter.STATUS))).containsExactly(0, 1);
+    assertThat(Files.readAllBytes(tempDir.resolve(HistoryWriter.DURATION)))
+        .containsExactly(0xAC, 0x02, 0x01);
+    assertThat(HistoryWriter.readDictionary(tempDir.resolve(HistoryWriter.DICTIONARY), 6L))
+        .containsOnlyKeys(NODE);
+  }
+
+  @Test
+  void appendWhenInterrupted(@TempDir Path tempDir) throws IOException {
+    HistoryWriter.append(tempDir, 1L, List.of(new ResultIndex.Entry(NODE, SUCCESSFUL, 1L, 0L, "")));
+
+    Files.write(tempDir.resolve(HistoryWriter.NODE), new byte[] {9, 9}, StandardOpenOption.APPEND);
+    Files.write(tempDir.resolve(HistoryWriter.RUNS), new byte[] {9}, StandardOpenOption.APPEND);
+
+    HistoryWriter.append(tempDir, 2L, List.of(new ResultIndex.Entry(NODE, SUCCESSFUL, 1L, 0L, "")));
+
+    assertThat(Files.readAllBytes(tempDir.resolve(HistoryWriter.NODE))).containsExactly(0, 0);
+    assertThat(RunHistory.read(tempDir).size()).isEqualTo(2);
+  }
+
+  @Test
+  void appendWhenNotAHistory(@TempDir Path tempDir) throws IOException {
+    Files.write(tempDir.resolve(HistoryWriter.RUNS), new byte[HistoryWriter.HEADER]);
+
+    HistoryWriter.append(tempDir, 1L, List.of(new ResultIndex.Entry(NODE, SUCCESSFUL, 1L, 0L, "")));
+
+    assertThat(tempDir.resolve(HistoryWriter.NODE)).doesNotExist();
+  }
+
+  @Test
+  void getVarint() {
+    assertThat(HistoryWriter.getVarint(ByteBuffer.wrap(new byte[] {(byte) 0xAC, 0x02})))
+        .isEqualTo(300L);
+  }
+}
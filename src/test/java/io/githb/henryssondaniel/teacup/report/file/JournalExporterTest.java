@@ -0,0 +1,126 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalExporterTest {
+  private static final String DIRECTORY = "directory";
+  private static final String JOURNAL = "run.journal";
+  private static final String LOG = ".log";
+  private static final String MESSAGE = "message";
+  private static final String NAME = "name";
+
+  @Test
+  void export(@TempDir Path tempDir) throws IOException {
+    var journal = tempDir.resolve(JOURNAL);
+
+    var journalWriter = new JournalWriter(journal);
+    journalWriter.writeNode(0, 0L, JournalWriter.NO_NODE, NAME);
+    journalWriter.writeStarted(0, 0L);
+    journalWriter.writeLog(
+        0, 0L, "INFO", 800, MESSAGE, RecordFormatter.stackTrace(new IOException(MESSAGE)));
+    journalWriter.writeFinished(0, 0L, "SUCCESSFUL", 1L, null);
+    journalWriter.writeTerminated(0L, 0L, 0L, 0L, 1L);
+    journalWriter.close();
+
+    var directory = tempDir.resolve(DIRECTORY);
+    JournalExporter.export(journal, directory);
+
+    assertThat(Files.readAllLines(directory.resolve(NAME).resolve(LOG)))
+        .anySatisfy(line -> assertThat(line).endsWith("INFO: " + Messages.STARTED))
+        .anySatisfy(line -> assertThat(line).endsWith("INFO: " + MESSAGE))
+        .anySatisfy(
+            line -> assertThat(line).isEqualTo(IOException.class.getName() + ": " + MESSAGE))
+        .anySatisfy(line -> assertThat(line).endsWith(Messages.finished("SUCCESSFUL", 1L, "")));
+    assertThat(Files.readString(directory.resolve(LOG))).contains(Messages.summary(0L, 0L, 0L, 1L));
+  }
+
+  @Test
+  void exportWhenCustomLevel(@TempDir Path tempDir) throws IOException {
+    var journal = tempDir.resolve(JOURNAL);
+
+    var journalWriter = new JournalWriter(journal);
+    journalWriter.writeLog(JournalWriter.NO_NODE, 0L, "CUSTOM", 850, MESSAGE, null);
+    journalWriter.close();
+
+    var directory = tempDir.resolve(DIRECTORY);
+    JournalExporter.export(journal, directory);
+
+    assertThat(Files.readString(directory.resolve(LOG))).contains("CUSTOM: " + MESSAGE);
+  }
+
+  @Test
+  void exportWhenDuplicateName(@TempDir Path tempDir) throws IOException {
+    var journal = tempDir.resolve(JOURNAL);
+
+    var journalWriter = new JournalWriter(journal);
+    journalWriter.writeNode(0, 0L, JournalWriter.NO_NODE, NAME);
+    journalWriter.writeNode(1, 0L, JournalWriter.NO_NODE, NAME);
+    journalWriter.writeStarted(1, 0L);
+    journalWriter.close();
+
+    var directory = tempDir.resolve(DIRECTORY);
+    JournalExporter.export(journal, directory);
+
+    assertThat(Files.readString(directory.resolve(NAME).resolve(LOG))).isEmpty();
+    assertThat(Files.readString(directory.resolve(NAME + "~2").resolve(LOG)))
+        .contains(Messages.STARTED);
+  }
+
+  @Test
+  void exportWhenNested(@TempDir Path tempDir) throws IOException {
+    var journal = tempDir.resolve(JOURNAL);
+
+    var journalWriter = new JournalWriter(journal);
+    journalWriter.writeNode(0, 0L, JournalWriter.NO_NODE, NAME);
+    journalWriter.writeNode(1, 0L, 0, NAME);
+    journalWriter.writeStarted(1, 0L);
+    journalWriter.close();
+
+    var directory = tempDir.resolve(DIRECTORY);
+    JournalExporter.export(journal, directory);
+
+    assertThat(Files.readString(directory.resolve(NAME).resolve(LOG))).isEmpty();
+    assertThat(Files.readString(directory.resolve(NAME).resolve(NAME).resolve(LOG)))
+        .contains(Messages.STARTED);
+  }
+
+  @Test
+  void exportWhenNotJournal(@TempDir Path tempDir) throws IOException {
+    var journal = Files.writeString(tempDir.resolve(JOURNAL), "not a journal");
+    var directory = tempDir.resolve(DIRECTORY);
+
+    assertThatThrownBy(() -> JournalExporter.export(journal, directory))
+        .isInstanceOf(IOException.class);
+    assertThat(directory).doesNotExist();
+  }
+
+  @Test
+  void exportWhenTruncated(@TempDir Path tempDir) throws IOException {
+    var journal = tempDir.resolve(JOURNAL);
+
+    var journalWriter = new JournalWriter(journal);
+    journalWriter.writeStarted(JournalWriter.NO_NODE, 0L);
+    journalWriter.writeSkipped(JournalWriter.NO_NODE, 0L, MESSAGE);
+    journalWriter.close();
+
+    try (var fileChannel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+      fileChannel.truncate(fileChannel.size() - 2L);
+    }
+
+    var directory = tempDir.resolve(DIRECTORY);
+    JournalExporter.export(journal, directory);
+
+    assertThat(Files.readAllLines(directory.resolve(LOG)))
+        .hasSize(1)
+        .allSatisfy(line -> assertThat(line).endsWith(Messages.STARTED));
+  }
+}
@@ -0,0 +1,162 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import io.github.henryssondaniel.teacup.core.testing.Result;
+import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalReporterTest {
+  private static final String JOURNAL = "run.journal";
+  private static final String MESSAGE = "message";
+  private static final String NAME = "name";
+  private static final String REASON = "reason";
+
+  private final Node node = mock(Node.class);
+  private final Result result = mock(Result.class);
+
+  @BeforeEach
+  void beforeEach() {
+    when(node.getName()).thenReturn(NAME);
+    when(result.getStatus()).thenReturn(Status.SUCCESSFUL);
+    when(result.getThrowable()).thenReturn(Optional.empty());
+  }
+
+  @Test
+  void finished(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(JOURNAL);
+
+    var journalReporter = new JournalReporter(path);
+    journalReporter.initialize();
+    journalReporter.initialized(Collections.singletonList(node));
+    journalReporter.finished(node, result);
+
+    assertThat(types(path)).containsExactly(JournalWriter.NODE, JournalWriter.FINISHED);
+  }
+
+  @Test
+  void finishedWhenNotInitialized(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(JOURNAL);
+
+    new JournalReporter(path).finished(node, result);
+
+    assertThat(path).doesNotExist();
+  }
+
+  @Test
+  void initialize(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve("logs").resolve(JOURNAL);
+
+    var journalReporter = new JournalReporter(path);
+    journalReporter.initialize();
+    journalReporter.terminated();
+
+    assertThat(types(path)).containsExactly(JournalWriter.TERMINATED);
+  }
+
+  @Test
+  void initializeWhenExists(@TempDir Path tempDir) throws IOException {
+    var path = Files.writeString(tempDir.resolve(JOURNAL), MESSAGE);
+
+    var journalReporter = new JournalReporter(path);
+    journalReporter.initialize();
+    journalReporter.terminated();
+
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void initializedWhenConcurrent(@TempDir Path tempDir)
+      throws IllegalAccessException, InterruptedException, NoSuchFieldException {
+    var journalReporter = new JournalReporter(tempDir.resolve(JOURNAL));
+    journalReporter.initialize();
+
+    List<Thread> threads = new ArrayList<>(4);
+    for (var i = 0; i < 4; i++) {
+      List<Node> nodes = new ArrayList<>(500);
+      for (var j = 0; j < 500; j++) nodes.add(mock(Node.class));
+
+      threads.add(new Thread(() -> journalReporter.initialized(nodes)));
+    }
+
+    for (var thread : threads) thread.start();
+    for (var thread : threads) thread.join();
+
+    var field = JournalReporter.class.getDeclaredField("ids");
+    field.setAccessible(true);
+
+    assertThat(new HashSet<>(((Map<?, ?>) field.get(journalReporter)).values())).hasSize(2000);
+    journalReporter.terminated();
+  }
+
+  @Test
+  void log(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(JOURNAL);
+
+    var journalReporter = new JournalReporter(path);
+    journalReporter.initialize();
+    journalReporter.initialized(Collections.singletonList(node));
+    journalReporter.log(new LogRecord(Level.INFO, MESSAGE), node);
+    journalReporter.terminated();
+
+    assertThat(types(path))
+        .containsExactly(JournalWriter.NODE, JournalWriter.LOG, JournalWriter.TERMINATED);
+  }
+
+  @Test
+  void skipped(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(JOURNAL);
+
+    var journalReporter = new JournalReporter(path);
+    journalReporter.initialize();
+    journalReporter.skipped(node, REASON);
+
+    assertThat(types(path)).containsExactly(JournalWriter.SKIPPED);
+  }
+
+  @Test
+  void started(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(JOURNAL);
+
+    var journalReporter = new JournalReporter(path);
+    journalReporter.initialize();
+    journalReporter.started(node);
+    journalReporter.terminated();
+
+    assertThat(types(path)).containsExactly(JournalWriter.STARTED, JournalWriter.TERMINATED);
+  }
+
+  private static Iterable<Byte> types(Path path) throws IOException {
+    var types = new ArrayList<Byte>(4);
+
+    try (var dataInputStream = new DataInputStream(Files.newInputStream(path))) {
+      assertThat(dataInputStream.readInt()).isEqualTo(JournalWriter.MAGIC);
+      assertThat(dataInputStream.readInt()).isEqualTo(JournalWriter.VERSION);
+
+      while (dataInputStream.available() > 0) {
+        var length = dataInputStream.readInt();
+        types.add(dataInputStream.readByte());
+        dataInputStream.skipBytes(length - 1);
+      }
+    }
+
+    return types;
+  }
+}
@@ -0,0 +1,118 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LiveTailTest {
+  private static final String CHILD = "parent/child";
+  private static final String OTHER = "other";
+  private static final String PARENT = "parent";
+  private static final String TEST = "test";
+
+  private LiveTail liveTail;
+
+  @AfterEach
+  void afterEach() {
+    liveTail.close();
+  }
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    liveTail = new LiveTail(0, 1);
+    liveTail.start();
+  }
+
+  @Test
+  void publish() throws IOException, InterruptedException {
+    try (var socket = subscribe(LiveTail.PATH + "?node=" + PARENT)) {
+      var bufferedReader = read(socket);
+
+      liveTail.publish(OTHER, new LogRecord(Level.INFO, OTHER));
+      liveTail.publish(CHILD, new LogRecord(Level.INFO, TEST));
+
+      assertThat(bufferedReader.readLine()).isEqualTo("event: log");
+      assertThat(bufferedReader.readLine())
+          .startsWith("data: {\"instant\":\"")
+          .contains("\"node\":\"" + CHILD + "\",\"message\":\"" + TEST + '"');
+      assertThat(bufferedReader.readLine()).isEmpty();
+    }
+  }
+
+  @Test
+  void publishWhenEvent() throws IOException, InterruptedException {
+    try (var socket = subscribe(LiveTail.PATH)) {
+      var bufferedReader = read(socket);
+
+      liveTail.publish(null, new Event(Event.TERMINATED, TEST));
+
+      assertThat(bufferedReader.readLine()).isEqualTo("event: terminated");
+    }
+  }
+
+  @Test
+  void publishWhenNotFound() throws IOException {
+    try (var socket =
+            new Socket(liveTail.getAddress().getAddress(), liveTail.getAddress().getPort());
+        var bufferedReader =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+      socket.getOutputStream().write(request("/other"));
+
+      assertThat(bufferedReader.readLine()).isEqualTo("HTTP/1.1 404 Not Found");
+      assertThat(liveTail.isSubscribed()).isFalse();
+    }
+  }
+
+  @Test
+  void publishWhenSlow() throws IOException, InterruptedException {
+    var message = "a".repeat(1024);
+
+    try (var socket = subscribe(LiveTail.PATH)) {
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(10L),
+          () -> {
+            for (var i = 0; i < 100_000; i++)
+              liveTail.publish(CHILD, new LogRecord(Level.INFO, message));
+          });
+
+      assertThat(socket.isConnected()).isTrue();
+    }
+  }
+
+  private static BufferedReader read(Socket socket) throws IOException {
+    var bufferedReader =
+        new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+    assertThat(bufferedReader.readLine()).isEqualTo("HTTP/1.1 200 OK");
+    for (var line = bufferedReader.readLine(); !line.isEmpty(); line = bufferedReader.readLine())
+      assertThat(line).contains(": ");
+
+    return bufferedReader;
+  }
+
+  private static byte[] request(String target) {
+    return ("GET " + target + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+        .getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private Socket subscribe(String target) throws IOException, InterruptedException {
+    var socket = new Socket(liveTail.getAddress().getAddress(), liveTail.getAddress().getPort());
+    socket.getOutputStream().write(request(target));
+
+    while (!liveTail.isSubscribed()) Thread.sleep(10L);
+
+    return socket;
+  }
+}
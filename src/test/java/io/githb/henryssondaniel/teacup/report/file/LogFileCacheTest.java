@@ -0,0 +1,173 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogFileCacheTest {
+  private static final String FIRST = "first";
+  private static final String MESSAGE = "message";
+  private static final String SECOND = "second";
+
+  @Test
+  void close(@TempDir Path tempDir) {
+    var logFileCache = new LogFileCache(2);
+    logFileCache.get(tempDir.resolve(FIRST));
+    logFileCache.get(tempDir.resolve(SECOND));
+    logFileCache.close();
+
+    assertThat(logFileCache.size()).isZero();
+  }
+
+  @Test
+  void closePath(@TempDir Path tempDir) {
+    var path = tempDir.resolve(FIRST);
+
+    var logFileCache = new LogFileCache(2);
+    logFileCache.get(path);
+    logFileCache.close(path);
+
+    assertThat(logFileCache.size()).isZero();
+  }
+
+  @Test
+  void closePathWhenPeriodic(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(FIRST);
+
+    var logFileCache =
+        new LogFileCache(
+            2, false, 0, null, 0L, new Metrics(), Durability.PERIODIC, Format.TEXT, null);
+    var logFile = logFileCache.get(path).orElseThrow();
+    logFileCache.close(path);
+
+    assertThat(logFileCache.size()).isZero();
+    assertThat(logFile.write(MESSAGE)).isTrue();
+
+    logFileCache.force();
+
+    assertThat(logFile.write(MESSAGE)).isFalse();
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void closePathWhenPeriodicAndFull(@TempDir Path tempDir) throws IOException {
+    var logFileCache =
+        new LogFileCache(
+            2, false, 0, null, 0L, new Metrics(), Durability.PERIODIC, Format.TEXT, null);
+    List<LogFile> logFiles = new ArrayList<>(3);
+
+    for (var i = 0; i < 3; i++) {
+      var path = tempDir.resolve(FIRST + i);
+      var logFile = logFileCache.get(path).orElseThrow();
+      logFile.write(MESSAGE);
+      logFileCache.close(path);
+      logFiles.add(logFile);
+    }
+
+    assertThat(logFiles.get(0).write(MESSAGE)).isFalse();
+    assertThat(logFiles.get(1).write(MESSAGE)).isFalse();
+    assertThat(logFiles.get(2).write(MESSAGE)).isTrue();
+    assertThat(Files.readString(tempDir.resolve(FIRST + 0))).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void force(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(FIRST);
+
+    var logFileCache =
+        new LogFileCache(
+            2, false, 0, null, 0L, new Metrics(), Durability.PERIODIC, Format.TEXT, null);
+    logFileCache.write(path, () -> new LogRecord(Level.INFO, MESSAGE));
+    logFileCache.force();
+
+    assertThat(logFileCache.size()).isOne();
+    assertThat(Files.readString(path)).contains(MESSAGE);
+  }
+
+  @Test
+  void get(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(FIRST);
+
+    var logFileCache = new LogFileCache(2);
+    var logFile = logFileCache.get(path).orElseThrow();
+    logFile.write(new LogRecord(Level.INFO, MESSAGE));
+
+    assertThat(logFileCache.get(path)).containsSame(logFile);
+    assertThat(Files.readString(path)).contains(MESSAGE);
+    assertThat(tempDir.toFile().list()).containsOnly(FIRST);
+  }
+
+  @Test
+  void getWhenEvicted(@TempDir Path tempDir) throws IOException {
+    var first = tempDir.resolve(FIRST);
+
+    var logFileCache = new LogFileCache(1);
+    var logFile = logFileCache.get(first).orElseThrow();
+    logFileCache.get(tempDir.resolve(SECOND));
+    logFile.write(new LogRecord(Level.INFO, MESSAGE));
+
+    assertThat(logFileCache.size()).isOne();
+    assertThat(logFileCache.get(first).orElseThrow()).isNotSameAs(logFile);
+    assertThat(Files.readString(first)).isEmpty();
+  }
+
+  @Test
+  void getWhenFileCanNotBeCreated(@TempDir Path tempDir) {
+    var logFileCache = new LogFileCache(1);
+
+    assertThat(logFileCache.get(tempDir.resolve(FIRST).resolve(SECOND))).isEmpty();
+    assertThat(logFileCache.size()).isZero();
+  }
+
+  @Test
+  void getWhenLazy(@TempDir Path tempDir) {
+    var path = tempDir.resolve(FIRST).resolve(SECOND);
+
+    var logFileCache =
+        new LogFileCache(1, true, 0, null, 0L, new Metrics(), Durability.NONE, Format.TEXT, null);
+
+    assertThat(logFileCache.get(path)).isPresent();
+    assertThat(path).exists();
+  }
+
+  @Test
+  void write(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(FIRST);
+
+    var logFileCache = new LogFileCache(1);
+    logFileCache.write(path, () -> new LogRecord(Level.INFO, MESSAGE));
+
+    assertThat(Files.readString(path)).contains(MESSAGE);
+  }
+
+  @Test
+  void writeWhenClosed(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(FIRST);
+
+    var logFileCache = new LogFileCache(1);
+    logFileCache.get(path).orElseThrow().close();
+    logFileCache.write(path, () -> new LogRecord(Level.INFO, MESSAGE));
+
+    assertThat(Files.readString(path)).contains(MESSAGE);
+  }
+
+  @Test
+  void writeWhenFileCanNotBeCreated(@TempDir Path tempDir) {
+    var logFileCache = new LogFileCache(1);
+    logFileCache.write(
+        tempDir.resolve(FIRST).resolve(SECOND),
+        () -> {
+          throw new AssertionError(MESSAGE);
+        });
+
+    assertThat(logFileCache.size()).isZero();
+  }
+}
@@ -0,0 +1,242 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogFileTest {
+  private static final String LOG = "log";
+  private static final String MESSAGE = "message";
+
+  @Test
+  void closeWhenClosed(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    List<LogRecord> logRecords = new ArrayList<>(0);
+    var handler =
+        new Handler() {
+          @Override
+          public void close() {}
+
+          @Override
+          public void flush() {}
+
+          @Override
+          public void publish(LogRecord logRecord) {
+            logRecords.add(logRecord);
+          }
+        };
+
+    var logger = Logger.getLogger(LogFile.class.getName());
+    logger.addHandler(handler);
+
+    try {
+      var logFile = new LogFile(path, 4096);
+      logFile.write(MESSAGE);
+      logFile.close();
+      logFile.close();
+    } finally {
+      logger.removeHandler(handler);
+    }
+
+    assertThat(logRecords).isEmpty();
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void force(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 0, null, 0L, new Metrics(), Durability.PERIODIC);
+    logFile.write(MESSAGE);
+    logFile.force();
+
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void forceWhenClosed(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var metrics = new Metrics();
+
+    var logFile = new LogFile(path, 0, null, 0L, metrics, Durability.PERIODIC);
+    logFile.close();
+    logFile.force();
+
+    assertThat(metrics.getFailedWrites()).isZero();
+  }
+
+  @Test
+  void write(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path);
+
+    assertThat(logFile.write(MESSAGE)).isTrue();
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void writeAppends(@TempDir Path tempDir) throws IOException {
+    var path = Files.writeString(tempDir.resolve(LOG), MESSAGE);
+
+    var logFile = new LogFile(path);
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE + MESSAGE);
+  }
+
+  @Test
+  void writeLogRecord(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path);
+
+    assertThat(logFile.write(new LogRecord(Level.INFO, MESSAGE))).isTrue();
+    assertThat(Files.readString(path)).contains("INFO: " + MESSAGE);
+  }
+
+  @Test
+  void writeWhenClosed(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path);
+    logFile.close();
+
+    assertThat(logFile.write(new LogRecord(Level.INFO, MESSAGE))).isFalse();
+    assertThat(Files.readString(path)).isEmpty();
+  }
+
+  @Test
+  void writeWhenMapped(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 16);
+    logFile.write(MESSAGE);
+
+    assertThat(Files.size(path)).isEqualTo(16L);
+
+    logFile.write(MESSAGE.repeat(10));
+    logFile.close();
+
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE.repeat(11));
+  }
+
+  @Test
+  void writeWhenMappedAndExisting(@TempDir Path tempDir) throws IOException {
+    var path = Files.writeString(tempDir.resolve(LOG), MESSAGE);
+
+    var logFile = new LogFile(path, 4096);
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE + MESSAGE);
+  }
+
+  @Test
+  void writeWhenCompressed(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 0, Compression.GZIP);
+    logFile.write(MESSAGE);
+
+    assertThat(Files.size(path)).isZero();
+
+    logFile.flush();
+    logFile.write(MESSAGE);
+
+    assertThat(decompress(path)).isEqualTo(MESSAGE);
+
+    logFile.close();
+
+    assertThat(decompress(path)).isEqualTo(MESSAGE + MESSAGE);
+  }
+
+  @Test
+  void writeWhenCompressedAndExisting(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 0, Compression.GZIP);
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    logFile = new LogFile(path, 0, Compression.GZIP);
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    assertThat(decompress(path)).isEqualTo(MESSAGE + MESSAGE);
+  }
+
+  @Test
+  void writeWhenRecordDurability(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 0, Compression.GZIP, 0L, new Metrics(), Durability.RECORD);
+    logFile.write(MESSAGE);
+
+    try (var inputStream = new GZIPInputStream(Files.newInputStream(path))) {
+      assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(MESSAGE);
+    }
+  }
+
+  @Test
+  void writeWhenRotated(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 0, null, 10L);
+    logFile.write(MESSAGE);
+    logFile.write(MESSAGE);
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    assertThat(Files.readString(tempDir.resolve(LOG + ".1"))).isEqualTo(MESSAGE + MESSAGE);
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  @Test
+  void writeWhenRotatedAndCompressed(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG + ".gz");
+
+    var logFile = new LogFile(path, 0, Compression.GZIP, 1L);
+    logFile.write(MESSAGE);
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    assertThat(decompress(tempDir.resolve(LOG + ".1.gz"))).isEqualTo(MESSAGE);
+    assertThat(decompress(tempDir.resolve(LOG + ".2.gz"))).isEqualTo(MESSAGE);
+    assertThat(path).hasContent("");
+  }
+
+  @Test
+  void writeWhenRotatedAndMapped(@TempDir Path tempDir) throws IOException {
+    var path = tempDir.resolve(LOG);
+
+    var logFile = new LogFile(path, 16, null, 10L);
+    logFile.write(MESSAGE.repeat(2));
+    logFile.write(MESSAGE);
+    logFile.close();
+
+    assertThat(Files.readString(tempDir.resolve(LOG + ".1"))).isEqualTo(MESSAGE.repeat(2));
+    assertThat(Files.readString(path)).isEqualTo(MESSAGE);
+  }
+
+  private static String decompress(Path path) throws IOException {
+    try (var inputStream = new GZIPInputStream(Files.newInputStream(path))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
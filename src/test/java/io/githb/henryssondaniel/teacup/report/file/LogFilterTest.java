@@ -0,0 +1,129 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LogFilterTest {
+  private static final String MESSAGE = "message";
+  private static final String NAME = "name";
+
+  private final LogRecord fine = new LogRecord(Level.FINE, MESSAGE);
+  private final LogRecord info = new LogRecord(Level.INFO, MESSAGE);
+  private final Node node = mock(Node.class);
+
+  @BeforeEach
+  void beforeEach() {
+    when(node.getName()).thenReturn(NAME);
+  }
+
+  @Test
+  void accept() {
+    var logFilter = new LogFilter(Level.INFO, Collections.emptyMap(), 0, 0);
+
+    assertThat(logFilter.accept(node, fine)).isFalse();
+    assertThat(logFilter.accept(node, info)).isTrue();
+    assertThat(logFilter.end(node, false))
+        .extracting(LogRecord::getMessage)
+        .containsExactly(Messages.filtered(1L));
+  }
+
+  @Test
+  void acceptWhenDisabled() {
+    var logRecord = mock(LogRecord.class);
+    var logFilter = new LogFilter(Level.ALL, Collections.emptyMap(), 0, 2);
+
+    assertThat(logFilter.accept(node, logRecord)).isTrue();
+    assertThat(logFilter.end(node, true)).isEmpty();
+
+    verifyNoInteractions(logRecord, node);
+  }
+
+  @Test
+  void acceptWhenManyMessages() {
+    var logFilter = new LogFilter(Level.ALL, Collections.emptyMap(), 1, 0);
+
+    for (var i = 0; i < 256; i++)
+      assertThat(logFilter.accept(node, new LogRecord(Level.INFO, MESSAGE + i))).isTrue();
+
+    assertThat(logFilter.accept(node, new LogRecord(Level.INFO, NAME))).isTrue();
+    assertThat(logFilter.accept(node, new LogRecord(Level.INFO, NAME + 1))).isFalse();
+    assertThat(logFilter.accept(node, new LogRecord(Level.INFO, MESSAGE + 0))).isFalse();
+    assertThat(logFilter.end(node, false))
+        .extracting(LogRecord::getMessage)
+        .containsExactly(Messages.sampled(1L, MESSAGE + 0), Messages.sampled(1L));
+  }
+
+  @Test
+  void acceptWhenNoNode() {
+    var logFilter = new LogFilter(Level.INFO, Collections.emptyMap(), 0, 0);
+
+    assertThat(logFilter.accept(null, fine)).isFalse();
+    assertThat(logFilter.accept(null, info)).isTrue();
+  }
+
+  @Test
+  void acceptWhenNotRegistered() {
+    var logFilter = new LogFilter(Level.INFO, Collections.emptyMap(), 0, 2, current -> false);
+
+    assertThat(logFilter.accept(node, fine)).isFalse();
+    assertThat(logFilter.accept(node, info)).isTrue();
+    assertThat(logFilter.end(node, true)).isEmpty();
+
+    verifyNoInteractions(node);
+  }
+
+  @Test
+  void acceptWhenOverridden() {
+    var logFilter = new LogFilter(Level.INFO, Map.of(Pattern.compile("na.*"), Level.FINE), 0, 0);
+
+    assertThat(logFilter.accept(node, fine)).isTrue();
+  }
+
+  @Test
+  void acceptWhenSampled() {
+    var logFilter = new LogFilter(Level.ALL, Collections.emptyMap(), 2, 0);
+
+    assertThat(logFilter.accept(node, info)).isTrue();
+    assertThat(logFilter.accept(node, info)).isTrue();
+    assertThat(logFilter.accept(node, info)).isFalse();
+    assertThat(logFilter.accept(node, new LogRecord(Level.INFO, NAME))).isTrue();
+    assertThat(logFilter.end(node, false))
+        .extracting(LogRecord::getMessage)
+        .containsExactly(Messages.sampled(1L, MESSAGE));
+  }
+
+  @Test
+  void end() {
+    var logFilter = new LogFilter(Level.INFO, Collections.emptyMap(), 0, 2);
+    logFilter.accept(node, new LogRecord(Level.FINEST, NAME));
+    logFilter.accept(node, fine);
+    logFilter.accept(node, fine);
+
+    var logRecords = logFilter.end(node, true);
+
+    assertThat(logRecords).hasSize(4);
+    assertThat(logRecords.subList(1, 3)).containsExactly(fine, fine);
+    assertThat(logRecords.get(0).getMessage()).isEqualTo(Messages.suppressed(2));
+    assertThat(logRecords.get(3).getMessage()).isEqualTo(Messages.filtered(1L));
+  }
+
+  @Test
+  void endWhenCleared() {
+    var logFilter = new LogFilter(Level.INFO, Collections.emptyMap(), 0, 2);
+    logFilter.accept(node, fine);
+    logFilter.clear();
+
+    assertThat(logFilter.end(node, true)).isEmpty();
+  }
+}
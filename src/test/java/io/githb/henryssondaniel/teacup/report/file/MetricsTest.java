@@ -0,0 +1,119 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetricsTest {
+  private static final String NAME = "name";
+
+  private final Metrics metrics = new Metrics();
+
+  @Test
+  void addBytes() {
+    metrics.addBytes(2L);
+    assertThat(metrics.getBytes()).isEqualTo(2L);
+  }
+
+  @Test
+  void addFailedWrite() {
+    metrics.addFailedWrite();
+    assertThat(metrics.getFailedWrites()).isOne();
+  }
+
+  @Test
+  void addOpenedFile() {
+    metrics.addOpenedFile();
+    assertThat(metrics.getOpenedFiles()).isOne();
+  }
+
+  @Test
+  void addRecord() {
+    metrics.addRecord();
+    metrics.addRecord(Path.of(NAME, ".log"));
+
+    assertThat(metrics.getRecords()).isEqualTo(2L);
+    assertThat(metrics.getRecords(NAME)).isOne();
+  }
+
+  @Test
+  void finished() {
+    metrics.finished(1L);
+    assertThat(metrics.getFinishedLatency().getCount()).isOne();
+  }
+
+  @Test
+  void log() {
+    metrics.log(1L);
+    assertThat(metrics.getLogLatency().getMax()).isOne();
+  }
+
+  @Test
+  void register() throws Exception {
+    var mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    metrics.addBytes(3L);
+    metrics.register(NAME);
+
+    var objectNames = mBeanServer.queryNames(createObjectName(), null);
+    assertThat(objectNames).hasSize(1);
+    assertThat(mBeanServer.getAttribute(objectNames.iterator().next(), "Bytes")).isEqualTo(3L);
+
+    metrics.unregister();
+
+    assertThat(mBeanServer.queryNames(createObjectName(), null)).isEmpty();
+  }
+
+  @Test
+  void registerWhenSameName() throws Exception {
+    var other = new Metrics();
+    metrics.register(NAME);
+    other.register(NAME);
+
+    try {
+      assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(createObjectName(), null))
+          .hasSize(2);
+    } finally {
+      metrics.unregister();
+      other.unregister();
+    }
+  }
+
+  @Test
+  void reset() {
+    metrics.addRecord();
+    metrics.started(1L);
+    metrics.reset();
+
+    assertThat(metrics.getRecords()).isZero();
+    assertThat(metrics.getStartedLatency().getCount()).isZero();
+  }
+
+  @Test
+  void write(@TempDir Path tempDir) throws IOException {
+    metrics.addRecord(tempDir.resolve(NAME).resolve(".log"));
+    metrics.started(10L);
+    metrics.write(tempDir, 1L);
+
+    assertThat(Files.readAllLines(tempDir.resolve(".metrics")))
+        .contains(
+            "dropped=1",
+            "records=1",
+            "records." + NAME + "=1",
+            "started=count=1, p50=10, p99=10, p999=10, max=10");
+  }
+
+  private static ObjectName createObjectName() throws MalformedObjectNameException {
+    return new ObjectName(
+        "io.githb.henryssondaniel.teacup.report.file:type=DefaultReporter,name="
+            + ObjectName.quote(NAME)
+            + ",*");
+  }
+}
@@ -0,0 +1,96 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.github.henryssondaniel.teacup.core.testing.Node;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NodeRegistryTest {
+  private static final Path PATH = Path.of("path");
+
+  private final Node child = mock(Node.class);
+  private final Node node = mock(Node.class);
+  private final NodeRegistry nodeRegistry = new NodeRegistry();
+
+  @Test
+  void clear() {
+    nodeRegistry.register(Collections.singletonList(node));
+    nodeRegistry.putIfAbsent(node, PATH);
+    nodeRegistry.clear();
+
+    assertThat(nodeRegistry.get(node)).isNull();
+    assertThat(nodeRegistry.getPaths()).isEmpty();
+  }
+
+  @Test
+  void get() {
+    when(node.getNodes()).thenReturn(Collections.singletonList(child));
+
+    nodeRegistry.register(Collections.singletonList(node));
+
+    assertThat(nodeRegistry.putIfAbsent(child, PATH)).isTrue();
+    assertThat(nodeRegistry.get(child)).isSameAs(PATH);
+    assertThat(nodeRegistry.get(node)).isNull();
+  }
+
+  @Test
+  void getWhenNotRegistered() {
+    assertThat(nodeRegistry.get(node)).isNull();
+    verifyNoInteractions(node);
+  }
+
+  @Test
+  void putIfAbsent() {
+    nodeRegistry.register(List.of(node, node));
+
+    assertThat(nodeRegistry.putIfAbsent(node, PATH)).isTrue();
+    assertThat(nodeRegistry.putIfAbsent(node, Path.of("other"))).isFalse();
+    assertThat(nodeRegistry.getPaths()).containsOnlyKeys(node).containsValue(PATH);
+  }
+
+  @Test
+  void putIfAbsentWhenNotRegistered() {
+    assertThat(nodeRegistry.putIfAbsent(node, PATH)).isFalse();
+  }
+
+  @Test
+  void register() {
+    nodeRegistry.register(Collections.singletonList(node));
+    nodeRegistry.putIfAbsent(node, PATH);
+    nodeRegistry.register(Collections.singletonList(child));
+    nodeRegistry.putIfAbsent(child, PATH);
+
+    assertThat(nodeRegistry.getPaths()).containsOnlyKeys(child, node);
+  }
+
+  @Test
+  void registerWhenClaiming() throws InterruptedException {
+    List<Node> nodes = new ArrayList<>(1100);
+    for (var i = 0; i < 1100; i++) nodes.add(mock(Node.class));
+    nodeRegistry.register(nodes);
+
+    var thread = new Thread(() -> nodes.forEach(current -> nodeRegistry.putIfAbsent(current, PATH)));
+    thread.start();
+    for (var i = 0; i < 500; i++) nodeRegistry.register(Collections.singletonList(mock(Node.class)));
+    thread.join();
+
+    assertThat(nodes).allSatisfy(current -> assertThat(nodeRegistry.get(current)).isSameAs(PATH));
+  }
+
+  @Test
+  void remove() {
+    nodeRegistry.register(Collections.singletonList(node));
+    nodeRegistry.putIfAbsent(node, PATH);
+
+    assertThat(nodeRegistry.remove(node)).isSameAs(PATH);
+    assertThat(nodeRegistry.remove(node)).isNull();
+    assertThat(nodeRegistry.remove(child)).isNull();
+  }
+}
@@ -0,0 +1,152 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.Test;
+
+class RecordFormatterTest {
+  private static final String MESSAGE = "message";
+
+  @Test
+  void encode() {
+    var text = "\u00e5\u00e4\u00f6".repeat(1000);
+    assertThat(StandardCharsets.UTF_8.decode(RecordFormatter.encode(text)).toString())
+        .isEqualTo(text);
+  }
+
+  @Test
+  void encodeLogRecord() {
+    var logRecord = new LogRecord(Level.INFO, MESSAGE);
+    logRecord.setInstant(Instant.ofEpochMilli(1_234L));
+
+    assertThat(StandardCharsets.UTF_8.decode(RecordFormatter.encode(logRecord)).toString())
+        .isEqualTo(
+            format(Instant.ofEpochMilli(1_234L)) + " INFO: message" + System.lineSeparator());
+  }
+
+  @Test
+  void encodeWhenJson() {
+    var logRecord = new LogRecord(Level.FINE, "\"a\\b\"\n\r\t\u0001");
+    logRecord.setInstant(Instant.ofEpochMilli(1_234L));
+    logRecord.setThrown(new IOException(MESSAGE));
+
+    assertThat(
+            StandardCharsets.UTF_8
+                .decode(RecordFormatter.encode(logRecord, Format.JSON, "a/b"))
+                .toString())
+        .startsWith(
+            "{\"instant\":\"1970-01-01T00:00:01.234Z\",\"level\":\"FINE\",\"event\":\"log\","
+                + "\"node\":\"a/b\",\"message\":\"\\\"a\\\\b\\\"\\n\\r\\t\\u0001\","
+                + "\"thrown\":\"java.io.IOException: message")
+        .endsWith("\"}\n")
+        .hasLineCount(1);
+  }
+
+  @Test
+  void encodeWhenJsonEvent() {
+    var event = new Event(Event.FINISHED, MESSAGE, "FAILED", 5L, "java.io.IOException");
+    event.setInstant(Instant.EPOCH);
+
+    assertThat(
+            StandardCharsets.UTF_8
+                .decode(RecordFormatter.encode(event, Format.JSON, null))
+                .toString())
+        .isEqualTo(
+            "{\"instant\":\"1970-01-01T00:00:00Z\",\"level\":\"INFO\",\"event\":\"finished\","
+                + "\"message\":\"message\",\"status\":\"FAILED\",\"duration\":5,"
+                + "\"thrown\":\"java.io.IOException\"}\n");
+  }
+
+  @Test
+  void encodeWhenLarge() throws IllegalAccessException, NoSuchFieldException {
+    var logRecord = new LogRecord(Level.INFO, "\u00e5".repeat(1_000_000));
+    logRecord.setInstant(Instant.ofEpochMilli(1_234L));
+
+    assertThat(RecordFormatter.encode(logRecord).remaining()).isGreaterThan(2_000_000);
+
+    logRecord.setMessage(MESSAGE);
+    assertThat(StandardCharsets.UTF_8.decode(RecordFormatter.encode(logRecord)).toString())
+        .isEqualTo(
+            format(Instant.ofEpochMilli(1_234L)) + " INFO: message" + System.lineSeparator());
+
+    var field = RecordFormatter.class.getDeclaredField("RECORD_FORMATTERS");
+    field.setAccessible(true);
+
+    var recordFormatter = ((ThreadLocal<?>) field.get(null)).get();
+    assertThat(getCapacity(recordFormatter, "builder")).isLessThan(65_536);
+    assertThat(getCapacity(recordFormatter, "byteBuffer")).isLessThan(65_536);
+    assertThat(getCapacity(recordFormatter, "charBuffer")).isLessThan(65_536);
+  }
+
+  @Test
+  void format() {
+    var stringBuilder = new StringBuilder(MESSAGE);
+
+    var logRecord = new LogRecord(Level.WARNING, "{0} {1}");
+    logRecord.setInstant(Instant.ofEpochMilli(5L));
+    logRecord.setParameters(new Object[] {MESSAGE, 1});
+
+    RecordFormatter.format(logRecord, stringBuilder);
+
+    assertThat(stringBuilder)
+        .hasToString(
+            MESSAGE
+                + format(Instant.ofEpochMilli(5L))
+                + " WARNING: message 1"
+                + System.lineSeparator());
+  }
+
+  @Test
+  void formatWhenSameSecond() {
+    var stringBuilder = new StringBuilder(32);
+
+    var logRecord = new LogRecord(Level.INFO, MESSAGE);
+    logRecord.setInstant(Instant.ofEpochMilli(10_001L));
+    RecordFormatter.format(logRecord, stringBuilder);
+
+    stringBuilder.setLength(0);
+    logRecord.setInstant(Instant.ofEpochMilli(10_999L));
+    RecordFormatter.format(logRecord, stringBuilder);
+
+    assertThat(stringBuilder).startsWith(format(Instant.ofEpochMilli(10_999L)));
+  }
+
+  @Test
+  void formatWhenThrown() {
+    var stringBuilder = new StringBuilder(32);
+
+    var logRecord = new LogRecord(Level.SEVERE, MESSAGE);
+    logRecord.setThrown(new IllegalStateException(MESSAGE));
+    RecordFormatter.format(logRecord, stringBuilder);
+
+    assertThat(stringBuilder)
+        .contains(" SEVERE: message" + System.lineSeparator())
+        .contains("java.lang.IllegalStateException: message")
+        .contains("at " + RecordFormatterTest.class.getName());
+  }
+
+  private static int getCapacity(Object recordFormatter, String name)
+      throws IllegalAccessException, NoSuchFieldException {
+    var field = RecordFormatter.class.getDeclaredField(name);
+    field.setAccessible(true);
+
+    var buffer = field.get(recordFormatter);
+    return buffer instanceof StringBuilder
+        ? ((StringBuilder) buffer).capacity()
+        : ((Buffer) buffer).capacity();
+  }
+
+  private static String format(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneId.systemDefault())
+        .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
+  }
+}
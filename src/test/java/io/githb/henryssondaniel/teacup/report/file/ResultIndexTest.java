@@ -0,0 +1,92 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.henryssondaniel.teacup.core.testing.Status;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultIndexTest {
+  private static final String FAILED = "failed";
+  private static final String SKIPPED = "skipped";
+  private static final String SUCCESSFUL = "successful";
+
+  @Test
+  void get(@TempDir Path tempDir) throws IOException {
+    var entry = write(tempDir).get(FAILED).orElseThrow();
+
+    assertThat(entry.getDuration()).isEqualTo(2L);
+    assertThat(entry.getNode()).isEqualTo(FAILED);
+    assertThat(entry.getSize()).isEqualTo(4L);
+    assertThat(entry.getStatus()).isEqualTo(Status.FAILED.name());
+    assertThat(entry.getThrowable()).contains(IOException.class.getName());
+  }
+
+  @Test
+  void getEntries(@TempDir Path tempDir) throws IOException {
+    assertThat(write(tempDir).getEntries())
+        .extracting(ResultIndex.Entry::getNode)
+        .containsExactly(FAILED, SKIPPED, SUCCESSFUL);
+  }
+
+  @Test
+  void getEntriesWithStatus(@TempDir Path tempDir) throws IOException {
+    assertThat(write(tempDir).getEntries("SKIPPED"))
+        .hasSize(1)
+        .allSatisfy(
+            entry -> {
+              assertThat(entry.getNode()).isEqualTo(SKIPPED);
+              assertThat(entry.getSize()).isEqualTo(-1L);
+              assertThat(entry.getThrowable()).isEmpty();
+            });
+  }
+
+  @Test
+  void getWhenNested(@TempDir Path tempDir) throws IOException {
+    var resultIndexWriter = new ResultIndexWriter();
+    resultIndexWriter.add(
+        FAILED, "FAILED", 2L, "", tempDir.resolve(SUCCESSFUL).resolve(FAILED).resolve(".log"));
+    resultIndexWriter.write(tempDir.resolve(ResultIndex.FILE));
+
+    assertThat(ResultIndex.read(tempDir).get(SUCCESSFUL + '/' + FAILED))
+        .hasValueSatisfying(entry -> assertThat(entry.getSize()).isEqualTo(-1L));
+  }
+
+  @Test
+  void getWhenMissing(@TempDir Path tempDir) throws IOException {
+    var resultIndex = write(tempDir);
+
+    assertThat(resultIndex.get("a")).isEmpty();
+    assertThat(resultIndex.get("z")).isEmpty();
+  }
+
+  @Test
+  void readWhenNotIndex(@TempDir Path tempDir) throws IOException {
+    Files.writeString(tempDir.resolve(ResultIndex.FILE), "not an index");
+    assertThatThrownBy(() -> ResultIndex.read(tempDir)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void size(@TempDir Path tempDir) throws IOException {
+    assertThat(write(tempDir).size()).isEqualTo(3);
+  }
+
+  private static ResultIndex write(Path directory) throws IOException {
+    var resultIndexWriter = new ResultIndexWriter();
+    resultIndexWriter.add(SUCCESSFUL, "SUCCESSFUL", 2L, "", directory.resolve("a"));
+    resultIndexWriter.add(
+        FAILED,
+        "FAILED",
+        2L,
+        IOException.class.getName(),
+        Files.writeString(directory.resolve("b"), "test"));
+    resultIndexWriter.add(SKIPPED, null);
+    resultIndexWriter.write(directory.resolve(ResultIndex.FILE));
+
+    return ResultIndex.read(directory);
+  }
+}
@@ -0,0 +1,126 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RetentionTest {
+  private static final String CURRENT = "current";
+  private static final String FORK = "fork";
+  private static final String LOG = ".log";
+  private static final String NEWER = "newer";
+  private static final String OLDER = "older";
+
+  @Test
+  void isEnabled() {
+    assertThat(new Retention(Duration.ZERO, Path.of(CURRENT), 1, 0L).isEnabled()).isTrue();
+  }
+
+  @Test
+  void isEnabledWhenNoLimit() {
+    assertThat(new Retention(Duration.ZERO, Path.of(CURRENT), 0, 0L).isEnabled()).isFalse();
+  }
+
+  @Test
+  void runWhenAge(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    createRun(tempDir, NEWER, 1L);
+    createRun(tempDir, OLDER, 10L);
+
+    new Retention(Duration.ofDays(5L), current, 0, 0L).run();
+
+    assertThat(tempDir.resolve(CURRENT)).exists();
+    assertThat(tempDir.resolve(NEWER)).exists();
+    assertThat(tempDir.resolve(OLDER)).doesNotExist();
+  }
+
+  @Test
+  void runWhenActive(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    var older = createRun(tempDir, OLDER, 10L);
+    SharedRun.activate(older);
+    setModified(older, 10L);
+
+    new Retention(Duration.ofDays(5L), current, 0, 0L).run();
+
+    assertThat(tempDir.resolve(OLDER)).exists();
+  }
+
+  @Test
+  void runWhenCrashed(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    var older = createRun(tempDir, OLDER, 10L);
+    Files.writeString(older.resolve(SharedRun.ACTIVE), String.valueOf(Long.MAX_VALUE));
+    setModified(older, 10L);
+
+    new Retention(Duration.ofDays(5L), current, 0, 0L).run();
+
+    assertThat(tempDir.resolve(OLDER)).doesNotExist();
+  }
+
+  @Test
+  void runWhenForkActive(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    var older = createRun(tempDir, OLDER, 10L);
+    SharedRun.activate(Files.createDirectory(older.resolve(FORK)));
+    setModified(older, 10L);
+
+    new Retention(Duration.ofDays(5L), current, 0, 0L).run();
+
+    assertThat(tempDir.resolve(OLDER)).exists();
+  }
+
+  @Test
+  void runWhenInitializing(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    Files.createDirectory(tempDir.resolve(NEWER));
+
+    new Retention(Duration.ZERO, current, 1, 0L).run();
+
+    assertThat(tempDir.resolve(NEWER)).exists();
+  }
+
+  @Test
+  void runWhenRuns(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    createRun(tempDir, NEWER, 1L);
+    createRun(tempDir, OLDER, 2L);
+
+    new Retention(Duration.ZERO, current, 2, 0L).run();
+
+    assertThat(tempDir.resolve(CURRENT)).exists();
+    assertThat(tempDir.resolve(NEWER)).exists();
+    assertThat(tempDir.resolve(OLDER)).doesNotExist();
+  }
+
+  @Test
+  void runWhenSize(@TempDir Path tempDir) throws IOException {
+    var current = createRun(tempDir, CURRENT, 0L);
+    createRun(tempDir, NEWER, 1L);
+    createRun(tempDir, OLDER, 2L);
+
+    new Retention(Duration.ZERO, current, 0, 6L).run();
+
+    assertThat(tempDir.resolve(NEWER)).exists();
+    assertThat(tempDir.resolve(OLDER)).doesNotExist();
+  }
+
+  private static Path createRun(Path root, String name, long days) throws IOException {
+    var run = Files.createDirectory(root.resolve(name));
+    Files.writeString(Files.createDirectory(run.resolve(name)).resolve(LOG), name);
+    setModified(run, days);
+
+    return run;
+  }
+
+  private static void setModified(Path run, long days) throws IOException {
+    Files.setLastModifiedTime(run, FileTime.from(Instant.now().minus(Duration.ofDays(days))));
+  }
+}
@@ -0,0 +1,99 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RunHistoryTest {
+  private static final String FAILED = "FAILED";
+  private static final String FLAKY = "flaky";
+  private static final String SKIPPED = "SKIPPED";
+  private static final String STABLE = "stable";
+  private static final String SUCCESSFUL = "SUCCESSFUL";
+
+  @Test
+  void getDuration(@TempDir Path tempDir) throws IOException {
+    for (var run = 1; run <= 100; run++)
+      HistoryWriter.append(
+          tempDir, run, List.of(new ResultIndex.Entry(STABLE, SUCCESSFUL, run, 0L, "")));
+
+    var runHistory = RunHistory.read(tempDir);
+
+    assertThat(runHistory.getDuration(STABLE, 100, 95.0)).hasValue(95L);
+    assertThat(runHistory.getDuration(STABLE, 10, 50.0)).hasValue(95L);
+    assertThat(runHistory.getDuration(STABLE, 10, 100.0)).hasValue(100L);
+  }
+
+  @Test
+  void getDurationWhenSkipped(@TempDir Path tempDir) throws IOException {
+    HistoryWriter.append(tempDir, 1L, List.of(new ResultIndex.Entry(STABLE, SKIPPED, 0L, -1L, "")));
+
+    assertThat(RunHistory.read(tempDir).getDuration(STABLE, 1, 95.0)).isEmpty();
+  }
+
+  @Test
+  void getDurationWhenUnknown(@TempDir Path tempDir) throws IOException {
+    HistoryWriter.append(tempDir, 1L, List.of());
+
+    assertThat(RunHistory.read(tempDir).getDuration(STABLE, 1, 95.0)).isEmpty();
+  }
+
+  @Test
+  void getFlakiest(@TempDir Path tempDir) throws IOException {
+    var statuses = List.of(SUCCESSFUL, FAILED, SKIPPED, SUCCESSFUL, FAILED);
+
+    for (var status : statuses)
+      HistoryWriter.append(
+          tempDir,
+          1L,
+          List.of(
+              new ResultIndex.Entry(FLAKY, status, 1L, 0L, ""),
+              new ResultIndex.Entry(STABLE, SUCCESSFUL, 1L, 0L, "")));
+
+    assertThat(RunHistory.read(tempDir).getFlakiest(500, 10))
+        .hasSize(1)
+        .allSatisfy(
+            flakiness -> {
+              assertThat(flakiness.getFailures()).isEqualTo(2);
+              assertThat(flakiness.getFlips()).isEqualTo(3);
+              assertThat(flakiness.getNode()).isEqualTo(FLAKY);
+              assertThat(flakiness.getRate()).isEqualTo(1.0);
+              assertThat(flakiness.getRuns()).isEqualTo(4);
+            });
+  }
+
+  @Test
+  void getFlakiestWhenLatest(@TempDir Path tempDir) throws IOException {
+    for (var status : List.of(SUCCESSFUL, FAILED, SUCCESSFUL, SUCCESSFUL))
+      HistoryWriter.append(tempDir, 1L, List.of(new ResultIndex.Entry(FLAKY, status, 1L, 0L, "")));
+
+    assertThat(RunHistory.read(tempDir).getFlakiest(2, 10)).isEmpty();
+  }
+
+  @Test
+  void read(@TempDir Path tempDir) {
+    assertThatThrownBy(() -> RunHistory.read(tempDir)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void readWhenNotAHistory(@TempDir Path tempDir) throws IOException {
+    Files.write(tempDir.resolve(HistoryWriter.RUNS), new byte[HistoryWriter.HEADER]);
+
+    assertThatThrownBy(() -> RunHistory.read(tempDir))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Not a history.");
+  }
+
+  @Test
+  void size(@TempDir Path tempDir) throws IOException {
+    HistoryWriter.append(tempDir, 1L, List.of());
+
+    assertThat(RunHistory.read(tempDir).size()).isOne();
+  }
+}
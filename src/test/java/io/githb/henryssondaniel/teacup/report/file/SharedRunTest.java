@@ -0,0 +1,121 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SharedRunTest {
+  private static final String FIRST = "first";
+  private static final String LOG = ".log";
+  private static final String SECOND = "second";
+
+  @Test
+  void activate(@TempDir Path tempDir) throws IOException {
+    SharedRun.activate(tempDir);
+
+    assertThat(Files.readString(tempDir.resolve(SharedRun.ACTIVE)))
+        .isEqualTo(String.valueOf(ProcessHandle.current().pid()));
+  }
+
+  @Test
+  void deactivate(@TempDir Path tempDir) {
+    SharedRun.activate(tempDir);
+    SharedRun.deactivate(tempDir);
+
+    assertThat(SharedRun.isActive(tempDir)).isFalse();
+  }
+
+  @Test
+  void leave(@TempDir Path tempDir) throws IOException {
+    var sharedRun = new SharedRun(tempDir, null, Format.TEXT, LOG);
+    var first = Files.createDirectory(tempDir.resolve(FIRST));
+
+    SharedRun.activate(first);
+    sharedRun.leave(first);
+
+    assertThat(first.resolve(SharedRun.ACTIVE)).doesNotExist();
+    assertThat(ResultIndex.read(tempDir).size()).isZero();
+    assertThat(Files.readString(tempDir.resolve(LOG))).contains("0 tests executed");
+  }
+
+  @Test
+  void leaveWhenActive(@TempDir Path tempDir) throws IOException {
+    var sharedRun = new SharedRun(tempDir, null, Format.TEXT, LOG);
+    var first = Files.createDirectory(tempDir.resolve(FIRST));
+    var second = Files.createDirectory(tempDir.resolve(SECOND));
+
+    SharedRun.activate(first);
+    SharedRun.activate(second);
+    sharedRun.leave(first);
+
+    assertThat(tempDir.resolve(ResultIndex.FILE)).doesNotExist();
+    assertThat(tempDir.resolve(LOG)).doesNotExist();
+  }
+
+  @Test
+  void leaveWhenCrashed(@TempDir Path tempDir) throws IOException {
+    var sharedRun = new SharedRun(tempDir, null, Format.TEXT, LOG);
+    var first = Files.createDirectory(tempDir.resolve(FIRST));
+    var second = Files.createDirectory(tempDir.resolve(SECOND));
+
+    SharedRun.activate(first);
+    Files.writeString(second.resolve(SharedRun.ACTIVE), String.valueOf(Long.MAX_VALUE));
+    sharedRun.leave(first);
+
+    assertThat(tempDir.resolve(ResultIndex.FILE)).exists();
+  }
+
+  @Test
+  void leaveWhenHistory(@TempDir Path tempDir) throws IOException {
+    var history = tempDir.resolve("history");
+    var root = Files.createDirectory(tempDir.resolve("run"));
+
+    var sharedRun = new SharedRun(root, null, Format.TEXT, LOG, history);
+    var first = Files.createDirectory(root.resolve(FIRST));
+    var second = Files.createDirectory(root.resolve(SECOND));
+
+    ResultIndexWriter.write(
+        first.resolve(ResultIndex.FILE),
+        new ArrayList<>(List.of(new ResultIndex.Entry(FIRST, "FAILED", 1L, 2L, ""))));
+    ResultIndexWriter.write(
+        second.resolve(ResultIndex.FILE),
+        new ArrayList<>(List.of(new ResultIndex.Entry(SECOND, "SUCCESSFUL", 3L, 2L, ""))));
+
+    sharedRun.leave(first);
+    sharedRun.leave(second);
+
+    var runHistory = RunHistory.read(history);
+
+    assertThat(runHistory.size()).isOne();
+    assertThat(runHistory.getDuration(FIRST, 1, 100.0)).hasValue(1L);
+    assertThat(runHistory.getDuration(SECOND, 1, 100.0)).hasValue(3L);
+  }
+
+  @Test
+  void leaveWhenIndexed(@TempDir Path tempDir) throws IOException {
+    var sharedRun = new SharedRun(tempDir, null, Format.TEXT, LOG);
+    var first = Files.createDirectory(tempDir.resolve(FIRST));
+    var second = Files.createDirectory(tempDir.resolve(SECOND));
+
+    ResultIndexWriter.write(
+        first.resolve(ResultIndex.FILE),
+        new ArrayList<>(List.of(new ResultIndex.Entry("test", "FAILED", 1L, 2L, ""))));
+    ResultIndexWriter.write(
+        second.resolve(ResultIndex.FILE),
+        new ArrayList<>(List.of(new ResultIndex.Entry("test", "SKIPPED", 0L, -1L, ""))));
+
+    sharedRun.leave(second);
+
+    assertThat(ResultIndex.read(tempDir).getEntries())
+        .extracting(ResultIndex.Entry::getNode)
+        .containsExactly(FIRST + "/test", SECOND + "/test");
+    assertThat(Files.readString(tempDir.resolve(LOG)))
+        .contains("2 tests executed, 0 aborted, 1 skipper, 1 failed");
+  }
+}
@@ -0,0 +1,78 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TraceExporterTest {
+  private static final String EXPORTED = "exported";
+  private static final String NODE = "node";
+  private static final String RUN = "run";
+  private static final String TEST = "test";
+
+  @Test
+  void export(@TempDir Path tempDir) throws IOException {
+    var run = tempDir.resolve(RUN);
+    var log = Files.createDirectories(run.resolve(NODE)).resolve(".log");
+    var throwable = new IOException(TEST);
+
+    write(run, log, Format.TEXT, throwable);
+    Files.writeString(run.resolve(ResultIndex.FILE), TEST);
+
+    var exported = tempDir.resolve(EXPORTED);
+    TraceExporter.export(run, exported);
+
+    assertThat(Files.readString(exported.resolve(NODE).resolve(".log")))
+        .contains(RecordFormatter.stackTrace(throwable))
+        .doesNotContain(Traces.PREFIX);
+    assertThat(exported.resolve(ResultIndex.FILE)).hasContent(TEST);
+    assertThat(exported.resolve(Traces.FOLDER)).doesNotExist();
+  }
+
+  @Test
+  void exportWhenJson(@TempDir Path tempDir) throws IOException {
+    var run = tempDir.resolve(RUN);
+    var log = Files.createDirectories(run).resolve(".jsonl");
+    var throwable = new IOException(TEST);
+
+    write(run, log, Format.JSON, throwable);
+
+    var exported = tempDir.resolve(EXPORTED);
+    TraceExporter.export(run, exported);
+
+    var stringBuilder = new StringBuilder(",\"thrown\":");
+    RecordFormatter.appendString(RecordFormatter.stackTrace(throwable), stringBuilder);
+
+    assertThat(Files.readAllLines(exported.resolve(".jsonl")))
+        .hasSize(1)
+        .allSatisfy(line -> assertThat(line).endsWith(stringBuilder.append('}').toString()));
+  }
+
+  @Test
+  void exportWhenMissing(@TempDir Path tempDir) throws IOException {
+    var run = Files.createDirectories(tempDir.resolve(RUN));
+    var line = Traces.PREFIX + "0".repeat(Traces.LENGTH) + " java.io.IOException";
+    Files.writeString(run.resolve(".log"), line + System.lineSeparator());
+
+    var exported = tempDir.resolve(EXPORTED);
+    TraceExporter.export(run, exported);
+
+    assertThat(Files.readAllLines(exported.resolve(".log"))).containsExactly(line);
+  }
+
+  private static void write(Path run, Path log, Format format, Throwable throwable)
+      throws IOException {
+    var logRecord = new LogRecord(Level.SEVERE, TEST);
+    logRecord.setThrown(throwable);
+
+    var logFile = new LogFile(log, 0, null, 0L, new Metrics(), Durability.NONE, format, NODE);
+    logFile.write(new TracedRecord(logRecord, new Traces(run.resolve(Traces.FOLDER))));
+    logFile.close();
+  }
+}
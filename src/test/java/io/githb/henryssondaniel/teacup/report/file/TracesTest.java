@@ -0,0 +1,66 @@
+package io.githb.henryssondaniel.teacup.report.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TracesTest {
+  private static final String TEST = "test";
+
+  @Test
+  void clear(@TempDir Path tempDir) throws IOException {
+    var folder = tempDir.resolve(Traces.FOLDER);
+    var traces = new Traces(folder);
+    var throwable = new IOException(TEST);
+
+    traces.getReference(throwable);
+    traces.clear();
+
+    assertThat(traces.getReference(throwable)).startsWith(Traces.PREFIX);
+    assertThat(Files.list(folder)).hasSize(1);
+  }
+
+  @Test
+  void getReference(@TempDir Path tempDir) throws IOException {
+    var folder = tempDir.resolve(Traces.FOLDER);
+    var traces = new Traces(folder);
+    var throwable = new IOException(TEST);
+
+    var reference = traces.getReference(throwable);
+
+    assertThat(reference)
+        .matches("~trace:[0-9a-f]{32} java.io.IOException: " + TEST + System.lineSeparator());
+    assertThat(traces.getReference(throwable)).isEqualTo(reference);
+    assertThat(Files.readString(folder.resolve(reference.substring(7, 7 + Traces.LENGTH))))
+        .isEqualTo(RecordFormatter.stackTrace(throwable));
+  }
+
+  @Test
+  void getReferenceWhenDifferent(@TempDir Path tempDir) throws IOException {
+    var folder = tempDir.resolve(Traces.FOLDER);
+    var traces = new Traces(folder);
+
+    assertThat(traces.getReference(new IOException(TEST)))
+        .isNotEqualTo(traces.getReference(new IOException("other")));
+    assertThat(Files.list(folder)).hasSize(2);
+  }
+
+  @Test
+  void getReferenceWhenMultiline(@TempDir Path tempDir) {
+    assertThat(new Traces(tempDir).getReference(new IOException("first\nsecond")))
+        .endsWith(" java.io.IOException: first" + System.lineSeparator());
+  }
+
+  @Test
+  void getReferenceWhenNotWritable(@TempDir Path tempDir) throws IOException {
+    var file = Files.createFile(tempDir.resolve(Traces.FOLDER));
+    var throwable = new IOException(TEST);
+
+    assertThat(new Traces(file).getReference(throwable))
+        .isEqualTo(RecordFormatter.stackTrace(throwable));
+  }
+}